@@ -0,0 +1,388 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import com.valhala.utils.exception.UtilsException;
+
+import java.util.Arrays;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's adaptive parity controller
+ * Class.<br/><br/>
+ * <p>
+ * Tracks the number of corrected symbols per block reported by
+ * {@link ReedSolomonDecoder#decodeBatch} over a sliding window of blocks,
+ * estimates the symbol error probability (with an upper confidence bound)
+ * and recommends the smallest candidate parity length whose probability of
+ * an uncorrectable block, P[errors &gt; parity / 2], stays below the target.<br/><br/>
+ * <p>
+ * The statistics describe the frames received from the peer, so the
+ * recommendation is fed back to the sender: every frame carries a 6 bytes
+ * header with the parity length used by the frame and the parity
+ * recommended for the reverse direction, each repeated three times and
+ * decoded by majority. {@link #unframe} reads the peer's recommendation and,
+ * in automatic mode, applies it to the frames sent afterwards; otherwise it
+ * can be applied with {@link #applyRecommendation}. The parity grows as soon
+ * as it is recommended and shrinks only after a full window of frames sent
+ * at the current parity. A one-way link needs its own reverse channel to
+ * carry {@link #getFeedback} to the sender.<br/><br/>
+ * <p>
+ * Esta clase implementa un controlador de la longitud de paridad basado en
+ * las estadisticas de decodificacion.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class AdaptiveParityController {
+
+    /**
+     * Tamaño del encabezado de cada trama
+     */
+    public static final int HEADER_BYTES = 6;
+    /**
+     * Valor de retroalimentacion sin recomendacion
+     */
+    public static final int NO_FEEDBACK = 0;
+    private static final double CONFIDENCE_Z = 2.0;
+    // ReedSolomonEncoder works over GF(256)
+    private static final int MAX_BLOCK = 255;
+    private final int[] candidates;
+    private final int windowBlocks;
+    private final double targetFailure;
+    private final boolean automatic;
+    private final int[] windowErrors;
+    private final int[] windowSymbols;
+    private int windowNext = 0;
+    private int windowCount = 0;
+    private long errors = 0;
+    private long symbols = 0;
+    private int lastDataBytes = 0;
+    private int parity;
+    private int blocksSinceChange = 0;
+
+    /**
+     * Constructor con las paridades candidatas y los parametros de control
+     *
+     * @param CandidateParities        Longitudes de paridad permitidas
+     * @param WindowBlocks             Numero de bloques de la ventana de observacion
+     * @param TargetFailureProbability Probabilidad maxima de bloque no corregible
+     * @param Automatic                Si es verdadero se aplican automaticamente las
+     *                                 recomendaciones recibidas del otro extremo
+     */
+    public AdaptiveParityController(int[] CandidateParities, int WindowBlocks, double TargetFailureProbability,
+                                    boolean Automatic) {
+        int i;
+
+        if (CandidateParities.length == 0) {
+            throw new IllegalArgumentException("No candidate parities");
+        }
+        candidates = CandidateParities.clone();
+        Arrays.sort(candidates);
+        for (i = 0; i < candidates.length; i++) {
+            if (candidates[i] <= 0 || candidates[i] > 0xFF) {
+                throw new IllegalArgumentException("Bad candidate parity");
+            }
+        }
+        if (WindowBlocks <= 0) {
+            throw new IllegalArgumentException("Bad window size");
+        }
+        if (TargetFailureProbability <= 0 || TargetFailureProbability >= 1) {
+            throw new IllegalArgumentException("Bad target failure probability");
+        }
+        this.windowBlocks = WindowBlocks;
+        this.targetFailure = TargetFailureProbability;
+        this.automatic = Automatic;
+        this.windowErrors = new int[WindowBlocks];
+        this.windowSymbols = new int[WindowBlocks];
+        // Without observations start with the strongest protection
+        this.parity = candidates[candidates.length - 1];
+    }
+
+    /**
+     * Registra el resultado de decodificar un bloque recibido
+     *
+     * @param Status    Estado retornado por {@link ReedSolomonDecoder#decodeBatch}
+     * @param DataBytes Numero de bytes de datos del bloque
+     * @param Parity    Longitud de paridad del bloque
+     */
+    public void record(int Status, int DataBytes, int Parity) {
+        int blockErrors;
+
+        // An uncorrectable block had at least Parity / 2 + 1 errors
+        blockErrors = Status == ReedSolomonDecoder.UNCORRECTABLE ? Parity / 2 + 1 : Status;
+        if (windowCount == windowBlocks) {
+            errors -= windowErrors[windowNext];
+            symbols -= windowSymbols[windowNext];
+        } else {
+            windowCount++;
+        }
+        windowErrors[windowNext] = blockErrors;
+        windowSymbols[windowNext] = DataBytes + Parity;
+        errors += blockErrors;
+        symbols += DataBytes + Parity;
+        windowNext = (windowNext + 1) % windowBlocks;
+        lastDataBytes = DataBytes;
+    }
+
+    /**
+     * Recomienda la menor paridad candidata que mantiene la probabilidad de
+     * bloque no corregible por debajo del objetivo
+     *
+     * @param DataBytes Numero de bytes de datos por bloque
+     * @return Longitud de paridad recomendada, entre las candidatas que caben
+     * en un bloque con los datos
+     */
+    public int recommendParity(int DataBytes) {
+        double p;
+        int largest, i;
+
+        largest = largestFitting(DataBytes);
+        if (symbols == 0) {
+            return largest;
+        }
+        p = errorProbabilityBound();
+        for (i = 0; i < candidates.length && candidates[i] <= largest; i++) {
+            if (failureProbability(DataBytes + candidates[i], candidates[i] / 2, p) <= targetFailure) {
+                return candidates[i];
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Retorna la paridad recomendada al otro extremo para los bloques que
+     * envia, segun las estadisticas de los bloques recibidos
+     *
+     * @return Longitud de paridad recomendada, o {@link #NO_FEEDBACK} sin
+     * observaciones
+     */
+    public int getFeedback() {
+        if (symbols == 0) {
+            return NO_FEEDBACK;
+        }
+        return recommendParity(lastDataBytes);
+    }
+
+    /**
+     * Aplica la paridad recomendada por el otro extremo a los bloques
+     * enviados: los aumentos se aplican de inmediato y las reducciones solo
+     * despues de una ventana completa de bloques enviados con la paridad
+     * actual
+     *
+     * @param Recommended Longitud de paridad recomendada, {@link #NO_FEEDBACK}
+     *                    o una paridad que no sea candidata son ignoradas
+     * @return Verdadero si la paridad cambio
+     */
+    public boolean applyRecommendation(int Recommended) {
+        if (Arrays.binarySearch(candidates, Recommended) < 0 || Recommended == parity) {
+            return false;
+        }
+        if (Recommended > parity || blocksSinceChange >= windowBlocks) {
+            parity = Recommended;
+            blocksSinceChange = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna la paridad en uso
+     *
+     * @return Longitud de paridad actual
+     */
+    public int getParity() {
+        return parity;
+    }
+
+    /**
+     * Fija la paridad en uso (modo manual)
+     *
+     * @param Parity Longitud de paridad, debe ser una de las candidatas
+     */
+    public void setParity(int Parity) {
+        if (Arrays.binarySearch(candidates, Parity) < 0) {
+            throw new IllegalArgumentException("Parity is not a candidate");
+        }
+        parity = Parity;
+        blocksSinceChange = 0;
+    }
+
+    /**
+     * Retorna la probabilidad estimada de error por simbolo en la ventana
+     *
+     * @return Probabilidad de error por simbolo
+     */
+    public double getSymbolErrorRate() {
+        return symbols == 0 ? 0 : errors / (double) symbols;
+    }
+
+    /**
+     * Codifica los datos con la paridad en uso (o la mayor candidata que
+     * quepa en el bloque, si es menor) y agrega el encabezado con la
+     * retroalimentacion para el otro extremo
+     *
+     * @param Encoder Codificador Reed-Solomon
+     * @param Data    Datos a ser codificados
+     * @return Trama: encabezado seguido del bloque codificado
+     */
+    public byte[] frame(ReedSolomonEncoder Encoder, byte[] Data) {
+        byte[] codeword;
+        byte[] Output;
+        int frameParity, feedback;
+
+        frameParity = Math.min(parity, largestFitting(Data.length));
+        feedback = getFeedback();
+        codeword = Encoder.encode(Data, frameParity);
+        Output = new byte[HEADER_BYTES + codeword.length];
+        Output[0] = (byte) frameParity;
+        Output[1] = (byte) frameParity;
+        Output[2] = (byte) frameParity;
+        Output[3] = (byte) feedback;
+        Output[4] = (byte) feedback;
+        Output[5] = (byte) feedback;
+        System.arraycopy(codeword, 0, Output, HEADER_BYTES, codeword.length);
+        blocksSinceChange++;
+        return Output;
+    }
+
+    /**
+     * Decodifica una trama con la paridad indicada en su encabezado, registra
+     * el resultado en las estadisticas y, en modo automatico, aplica la
+     * paridad recomendada por el otro extremo
+     *
+     * @param Decoder Decodificador Reed-Solomon
+     * @param Frame   Trama recibida
+     * @return Datos corregidos
+     * @throws UtilsException Si el encabezado o el bloque no pueden corregirse
+     */
+    public byte[] unframe(ReedSolomonDecoder Decoder, byte[] Frame) throws UtilsException {
+        byte[] codeword;
+        byte[] Output;
+        int frameParity, status;
+
+        frameParity = readParity(Frame);
+        if (automatic) {
+            applyRecommendation(readFeedback(Frame));
+        }
+        codeword = new byte[Frame.length - HEADER_BYTES];
+        if (frameParity == 0 || frameParity >= codeword.length) {
+            throw new UtilsException("Bad parity header");
+        }
+        System.arraycopy(Frame, HEADER_BYTES, codeword, 0, codeword.length);
+        status = Decoder.decodeBatch(codeword, 0, codeword.length, 1, codeword.length, frameParity)[0];
+        record(status, codeword.length - frameParity, frameParity);
+        if (status == ReedSolomonDecoder.UNCORRECTABLE) {
+            throw new UtilsException("Uncorrectable block");
+        }
+        Output = new byte[codeword.length - frameParity];
+        System.arraycopy(codeword, 0, Output, 0, Output.length);
+        return Output;
+    }
+
+    /**
+     * Lee la longitud de paridad del encabezado de la trama
+     *
+     * @param Frame Trama recibida
+     * @return Longitud de paridad
+     * @throws UtilsException Si el encabezado no puede leerse
+     */
+    public static int readParity(byte[] Frame) throws UtilsException {
+        if (Frame.length <= HEADER_BYTES) {
+            throw new UtilsException("Frame too short");
+        }
+        return majority(Frame, 0);
+    }
+
+    /**
+     * Lee la paridad recomendada por el otro extremo del encabezado de la
+     * trama
+     *
+     * @param Frame Trama recibida
+     * @return Longitud de paridad recomendada, o {@link #NO_FEEDBACK}
+     * @throws UtilsException Si el encabezado no puede leerse
+     */
+    public static int readFeedback(byte[] Frame) throws UtilsException {
+        if (Frame.length <= HEADER_BYTES) {
+            throw new UtilsException("Frame too short");
+        }
+        return majority(Frame, 3);
+    }
+
+    /*
+     * Valor repetido tres veces, decodificado por mayoria
+     */
+    private static int majority(byte[] frame, int offset) throws UtilsException {
+        if (frame[offset] == frame[offset + 1] || frame[offset] == frame[offset + 2]) {
+            return frame[offset] & 0x000000FF;
+        }
+        if (frame[offset + 1] == frame[offset + 2]) {
+            return frame[offset + 1] & 0x000000FF;
+        }
+        throw new UtilsException("Corrupted parity header");
+    }
+
+    /*
+     * Mayor paridad candidata que cabe en un bloque con los datos
+     */
+    private int largestFitting(int dataBytes) {
+        int i;
+
+        if (dataBytes <= 0) {
+            throw new IllegalArgumentException("No data bytes provided");
+        }
+        for (i = candidates.length - 1; i >= 0; i--) {
+            if (dataBytes + candidates[i] <= MAX_BLOCK) {
+                return candidates[i];
+            }
+        }
+        throw new IllegalArgumentException("Data does not fit in a block with any candidate parity");
+    }
+
+    /*
+     * Cota superior de Wilson para la probabilidad de error por simbolo
+     */
+    private double errorProbabilityBound() {
+        double p, n, z2, center, margin;
+
+        n = symbols;
+        p = errors / n;
+        z2 = CONFIDENCE_Z * CONFIDENCE_Z;
+        center = p + z2 / (2 * n);
+        margin = CONFIDENCE_Z * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+        return Math.min(1.0, (center + margin) / (1 + z2 / n));
+    }
+
+    /*
+     * P[X > correctable] con X ~ Binomial(length, p)
+     */
+    private static double failureProbability(int length, int correctable, double p) {
+        double logPmf, logP, logQ, tail;
+        int i;
+
+        if (p <= 0) {
+            return 0;
+        }
+        if (p >= 1) {
+            return 1;
+        }
+        logP = Math.log(p);
+        logQ = Math.log1p(-p);
+        logPmf = length * logQ;
+        tail = 0;
+        for (i = 0; i < length; i++) {
+            // pmf(i + 1) = pmf(i) * (length - i) / (i + 1) * p / (1 - p)
+            logPmf += Math.log((length - i) / (double) (i + 1)) + logP - logQ;
+            if (i + 1 > correctable) {
+                tail += Math.exp(logPmf);
+            }
+        }
+        return tail;
+    }
+}
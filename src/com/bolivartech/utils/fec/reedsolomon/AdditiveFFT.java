@@ -0,0 +1,272 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's additive FFT Class.<br/><br/>
+ * <p>
+ * Implements the Lin-Chung-Han additive FFT over GF(2^w) on the novel
+ * polynomial basis X_k(x) = prod(Wbar_i(x)) for the bits i of k, where
+ * W_i(x) is the subspace polynomial of span(1, 2, .., 2^(i-1)) and
+ * Wbar_i(x) = W_i(x) / W_i(2^i). With this basis the evaluation points are
+ * the field elements themselves, the point of index j is the element j.
+ * Every element handled by the transforms is a vector of symbols (a shard),
+ * so one butterfly applies the same skew factor to the whole shard.<br/><br/>
+ * <p>
+ * Esta clase implementa la FFT aditiva sobre campos de Galois de
+ * caracteristica 2.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+final class AdditiveFFT {
+
+    private final GenericGF field;
+    private final int bits;
+    private final int modulus;
+    private final int[][] skewBasis;
+    private final int[] derivativeLog;
+
+    /**
+     * Constructor con inicializacion del campo de Galois
+     *
+     * @param GField Campo de Galois
+     */
+    AdditiveFFT(GenericGF GField) {
+        int[][] subspace;
+        int[] coefficient;
+        int i, b;
+
+        this.field = GField;
+        this.bits = Integer.numberOfTrailingZeros(GField.getSize());
+        this.modulus = GField.getSize() - 1;
+        // subspace[i][b] = W_i(2^b), using W_(i+1)(y) = W_i(y) * (W_i(y) + W_i(2^i))
+        subspace = new int[bits + 1][bits];
+        // coefficient[i] is the coefficient of x in W_i(x)
+        coefficient = new int[bits + 1];
+        for (b = 0; b < bits; b++) {
+            subspace[0][b] = 1 << b;
+        }
+        coefficient[0] = 1;
+        for (i = 0; i < bits; i++) {
+            for (b = 0; b < bits; b++) {
+                subspace[i + 1][b] = field.multiply(subspace[i][b],
+                        GenericGF.addOrSubtract(subspace[i][b], subspace[i][i]));
+            }
+            coefficient[i + 1] = field.multiply(coefficient[i], subspace[i][i]);
+        }
+        skewBasis = new int[bits][bits];
+        derivativeLog = new int[bits];
+        for (i = 0; i < bits; i++) {
+            for (b = 0; b < bits; b++) {
+                skewBasis[i][b] = field.multiply(subspace[i][b], field.inverse(subspace[i][i]));
+            }
+            derivativeLog[i] = field.log(field.multiply(coefficient[i], field.inverse(subspace[i][i])));
+        }
+    }
+
+    /**
+     * Evalua el polinomio (en la base novel) en los puntos beta + j, con
+     * j en [0, size). El resultado reemplaza los coeficientes.
+     *
+     * @param data Coeficientes del polinomio, un vector de simbolos por coeficiente
+     * @param size Numero de coeficientes (potencia de 2)
+     * @param beta Desplazamiento de los puntos (multiplo de size)
+     */
+    void fft(int[][] data, int size, int beta) {
+        int i, half, j, k, logSkew;
+
+        for (i = Integer.numberOfTrailingZeros(size) - 1; i >= 0; i--) {
+            half = 1 << i;
+            for (j = 0; j < size; j += 2 * half) {
+                logSkew = logSkew(i, beta ^ j);
+                for (k = j; k < j + half; k++) {
+                    multiplyAdd(data[k], data[k + half], logSkew);
+                    add(data[k + half], data[k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Interpola los valores en los puntos beta + j, con j en [0, size). El
+     * resultado son los coeficientes del polinomio en la base novel.
+     *
+     * @param data Valores del polinomio, un vector de simbolos por punto
+     * @param size Numero de puntos (potencia de 2)
+     * @param beta Desplazamiento de los puntos (multiplo de size)
+     */
+    void ifft(int[][] data, int size, int beta) {
+        int i, half, j, k, logSkew;
+
+        for (i = 0; (1 << i) < size; i++) {
+            half = 1 << i;
+            for (j = 0; j < size; j += 2 * half) {
+                logSkew = logSkew(i, beta ^ j);
+                for (k = j; k < j + half; k++) {
+                    add(data[k + half], data[k]);
+                    multiplyAdd(data[k], data[k + half], logSkew);
+                }
+            }
+        }
+    }
+
+    /**
+     * Derivada formal del polinomio en la base novel:
+     * X_k' = sum(Wbar_i'(0) * X_(k - 2^i)) para los bits i de k
+     *
+     * @param data Coeficientes del polinomio
+     * @param size Numero de coeficientes (potencia de 2)
+     */
+    void formalDerivative(int[][] data, int size) {
+        int[] spare;
+        int[] temp;
+        int i, j;
+
+        spare = new int[data[0].length];
+        // Coefficient j only depends on coefficients above j, so ascending order works in place
+        for (j = 0; j < size; j++) {
+            clear(spare);
+            for (i = 0; (1 << i) < size; i++) {
+                if ((j & (1 << i)) == 0) {
+                    multiplyAdd(spare, data[j | (1 << i)], derivativeLog[i]);
+                }
+            }
+            temp = data[j];
+            data[j] = spare;
+            spare = temp;
+        }
+    }
+
+    /**
+     * Calcula el logaritmo del polinomio localizador de borraduras
+     * L(x) = prod(x + e) en cada punto no borrado, y de su derivada L'(e) en
+     * cada punto borrado, como la convolucion XOR de las borraduras con la
+     * tabla de logaritmos (transformada de Walsh-Hadamard modulo 2^w - 1).
+     *
+     * @param erased Puntos borrados
+     * @param size   Numero de puntos (potencia de 2)
+     * @return Logaritmos de L(x) o L'(x) en cada punto
+     */
+    int[] locatorLogs(boolean[] erased, int size) {
+        int[] indicator;
+        int[] logs;
+        int i, inverseSize;
+
+        indicator = new int[size];
+        logs = new int[size];
+        for (i = 0; i < size; i++) {
+            indicator[i] = erased[i] ? 1 : 0;
+            logs[i] = i == 0 ? 0 : field.log(i);
+        }
+        walshHadamard(indicator, size);
+        walshHadamard(logs, size);
+        for (i = 0; i < size; i++) {
+            logs[i] = (int) (((long) logs[i] * indicator[i]) % modulus);
+        }
+        walshHadamard(logs, size);
+        // 2^w = 1 (mod 2^w - 1), so the inverse of 2^s is 2^(w - s)
+        inverseSize = 1 << ((bits - Integer.numberOfTrailingZeros(size)) % bits);
+        for (i = 0; i < size; i++) {
+            logs[i] = (int) (((long) logs[i] * inverseSize) % modulus);
+        }
+        return logs;
+    }
+
+    /**
+     * Multiplica el vector por el elemento cuyo logaritmo es logFactor
+     *
+     * @param data      Vector de simbolos
+     * @param logFactor Logaritmo del factor
+     */
+    void multiply(int[] data, int logFactor) {
+        int t;
+
+        for (t = 0; t < data.length; t++) {
+            if (data[t] != 0) {
+                data[t] = field.exp((field.log(data[t]) + logFactor) % modulus);
+            }
+        }
+    }
+
+    /**
+     * Retorna el modulo de los logaritmos (2^w - 1)
+     *
+     * @return Modulo de los logaritmos
+     */
+    int getModulus() {
+        return modulus;
+    }
+
+    /*
+     * Logaritmo del factor de giro Wbar_i(point), o -1 si es cero
+     */
+    private int logSkew(int i, int point) {
+        int skew, b;
+
+        skew = 0;
+        for (b = i + 1; b < bits; b++) {
+            if ((point & (1 << b)) != 0) {
+                skew = GenericGF.addOrSubtract(skew, skewBasis[i][b]);
+            }
+        }
+        return skew == 0 ? -1 : field.log(skew);
+    }
+
+    /*
+     * destination += source * exp(logFactor)
+     */
+    private void multiplyAdd(int[] destination, int[] source, int logFactor) {
+        int t, value;
+
+        if (logFactor < 0) {
+            return;
+        }
+        for (t = 0; t < destination.length; t++) {
+            value = source[t];
+            if (value != 0) {
+                destination[t] ^= field.exp((field.log(value) + logFactor) % modulus);
+            }
+        }
+    }
+
+    /*
+     * destination += source
+     */
+    private static void add(int[] destination, int[] source) {
+        for (int t = 0; t < destination.length; t++) {
+            destination[t] ^= source[t];
+        }
+    }
+
+    private static void clear(int[] data) {
+        for (int t = 0; t < data.length; t++) {
+            data[t] = 0;
+        }
+    }
+
+    /*
+     * Transformada de Walsh-Hadamard modulo 2^w - 1
+     */
+    private void walshHadamard(int[] data, int size) {
+        int half, j, k, x, y;
+
+        for (half = 1; half < size; half <<= 1) {
+            for (j = 0; j < size; j += 2 * half) {
+                for (k = j; k < j + half; k++) {
+                    x = data[k];
+                    y = data[k + half];
+                    data[k] = (x + y) % modulus;
+                    data[k + half] = (x - y + modulus) % modulus;
+                }
+            }
+        }
+    }
+}
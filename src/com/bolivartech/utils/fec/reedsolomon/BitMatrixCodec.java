@@ -0,0 +1,554 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import com.valhala.utils.exception.UtilsException;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's Reed-Solomon Bit-Matrix Codec
+ * Class.<br/><br/>
+ * <p>
+ * Every constant of GF(2^w) is expanded into a w x w binary matrix, so the
+ * encoding and the erasure decoding are performed only with XORs of packed
+ * {@code long} words, without any lookup to the exp/log tables of the field.
+ * Each word carries the same bit of the same symbol for 64 different
+ * codewords, then the throughput is word parallel when several codewords are
+ * processed together. The XOR schedule reuses previously computed rows when
+ * that is cheaper than computing the row from scratch.<br/><br/>
+ * <p>
+ * The output is identical to {@link ReedSolomonEncoder} for the same field
+ * and generator polynomial. Every byte must be a symbol of the field, for
+ * fields smaller than GF(256) bytes not below the field size are rejected
+ * with {@link IllegalArgumentException}.<br/><br/>
+ * <p>
+ * Building the XOR schedule of an erasure pattern costs much more than
+ * running it on a single block, so the schedules of the last 64 erasure
+ * patterns are kept; the decoding pays off for repeated patterns or for
+ * batches of blocks sharing one pattern.<br/><br/>
+ * <p>
+ * Esta clase implementa la codificacion Reed-Solomon y la decodificacion de
+ * borraduras usando matrices binarias y operaciones XOR.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class BitMatrixCodec {
+
+    private static final int WORD_BITS = 64;
+    private static final int TILE_WORDS = 64;
+    private static final int SCHEDULE_CACHE = 64;
+    private final GenericGF field;
+    private final int symbolBits;
+    private final int dataBytes;
+    private final int errorCorrectionBytes;
+    private final int[] encodeSchedule;
+    private final Map<BitSet, int[]> recoverySchedules;
+
+    /**
+     * Constructor con inicializacion del campo de Galois y de la geometria
+     * del codigo
+     *
+     * @param GField               Campo de Galois
+     * @param DataBytes            Numero de bytes de datos por bloque
+     * @param ErrorCorrectionBytes Numero de bytes para la correccion de errores
+     */
+    public BitMatrixCodec(GenericGF GField, int DataBytes, int ErrorCorrectionBytes) {
+        int size;
+
+        size = GField.getSize();
+        if (size > 256 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Only fields up to GF(256) are supported");
+        }
+        if (ErrorCorrectionBytes <= 0) {
+            throw new IllegalArgumentException("No error correction bytes");
+        }
+        if (DataBytes <= 0) {
+            throw new IllegalArgumentException("No data bytes provided");
+        }
+        if (DataBytes + ErrorCorrectionBytes >= size) {
+            throw new IllegalArgumentException("Block length exceeds the field size");
+        }
+        this.field = GField;
+        this.symbolBits = Integer.numberOfTrailingZeros(size);
+        this.dataBytes = DataBytes;
+        this.errorCorrectionBytes = ErrorCorrectionBytes;
+        this.encodeSchedule = buildSchedule(expand(buildParityMatrix()), DataBytes * symbolBits);
+        // Least recently used recovery schedules, one per erasure pattern
+        this.recoverySchedules = new LinkedHashMap<BitSet, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BitSet, int[]> eldest) {
+                return size() > SCHEDULE_CACHE;
+            }
+        };
+    }
+
+    /**
+     * Codifica el mensaje y agrega los bytes para la correccion de errores
+     *
+     * @param Input Mensaje de entrada original
+     * @return Mensaje con los bytes de correccion de errores
+     */
+    public byte[] encode(byte[] Input) {
+        return encode(new byte[][]{Input})[0];
+    }
+
+    /**
+     * Codifica un conjunto de mensajes, procesando 64 mensajes por palabra
+     *
+     * @param Inputs Mensajes de entrada originales
+     * @return Mensajes con los bytes de correccion de errores
+     */
+    public byte[][] encode(byte[][] Inputs) {
+        byte[][] Output;
+        byte[] packed;
+        int[] dataPositions;
+        int[] parityPositions;
+        int blockLength, i;
+
+        for (i = 0; i < Inputs.length; i++) {
+            if (Inputs[i].length != dataBytes) {
+                throw new IllegalArgumentException("Input length does not match the data bytes");
+            }
+        }
+        blockLength = dataBytes + errorCorrectionBytes;
+        packed = new byte[Inputs.length * blockLength];
+        for (i = 0; i < Inputs.length; i++) {
+            System.arraycopy(Inputs[i], 0, packed, i * blockLength, dataBytes);
+        }
+        dataPositions = new int[dataBytes];
+        for (i = 0; i < dataBytes; i++) {
+            dataPositions[i] = i;
+        }
+        parityPositions = new int[errorCorrectionBytes];
+        for (i = 0; i < errorCorrectionBytes; i++) {
+            parityPositions[i] = dataBytes + i;
+        }
+        run(encodeSchedule, packed, 0, blockLength, Inputs.length, dataPositions, parityPositions);
+        Output = new byte[Inputs.length][blockLength];
+        for (i = 0; i < Inputs.length; i++) {
+            System.arraycopy(packed, i * blockLength, Output[i], 0, blockLength);
+        }
+        return Output;
+    }
+
+    /**
+     * Recupera los simbolos borrados de un bloque codificado
+     *
+     * @param Input            Bloque codificado (datos y correccion de errores)
+     * @param ErasureLocations Posiciones de los simbolos borrados en el bloque
+     * @return Bloque con los simbolos borrados recuperados
+     * @throws UtilsException Si hay mas borraduras que bytes de correccion
+     */
+    public byte[] decode(byte[] Input, int[] ErasureLocations) throws UtilsException {
+        return decode(new byte[][]{Input}, ErasureLocations)[0];
+    }
+
+    /**
+     * Recupera los simbolos borrados de un conjunto de bloques codificados que
+     * comparten las mismas posiciones borradas
+     *
+     * @param Inputs           Bloques codificados (datos y correccion de errores)
+     * @param ErasureLocations Posiciones de los simbolos borrados en los bloques
+     * @return Bloques con los simbolos borrados recuperados
+     * @throws UtilsException Si hay mas borraduras que bytes de correccion
+     */
+    public byte[][] decode(byte[][] Inputs, int[] ErasureLocations) throws UtilsException {
+        byte[][] Output;
+        byte[] packed;
+        int blockLength, i;
+
+        blockLength = dataBytes + errorCorrectionBytes;
+        for (i = 0; i < Inputs.length; i++) {
+            if (Inputs[i].length != blockLength) {
+                throw new IllegalArgumentException("Input length does not match the block length");
+            }
+        }
+        packed = new byte[Inputs.length * blockLength];
+        for (i = 0; i < Inputs.length; i++) {
+            System.arraycopy(Inputs[i], 0, packed, i * blockLength, blockLength);
+        }
+        decode(packed, 0, blockLength, Inputs.length, ErasureLocations);
+        Output = new byte[Inputs.length][blockLength];
+        for (i = 0; i < Inputs.length; i++) {
+            System.arraycopy(packed, i * blockLength, Output[i], 0, blockLength);
+        }
+        return Output;
+    }
+
+    /**
+     * Recupera en el sitio los simbolos borrados de Count bloques contiguos
+     * del arreglo que comparten las mismas posiciones borradas. El bloque q
+     * empieza en Offset + q * Stride, con el mismo formato de
+     * {@link ReedSolomonEncoder#encodeBatch}.
+     *
+     * @param Buffer           Arreglo con los bloques
+     * @param Offset           Posicion del primer bloque
+     * @param Stride           Distancia entre el inicio de bloques consecutivos
+     * @param Count            Numero de bloques
+     * @param ErasureLocations Posiciones de los simbolos borrados en los bloques
+     * @throws UtilsException Si hay mas borraduras que bytes de correccion
+     */
+    public void decode(byte[] Buffer, int Offset, int Stride, int Count, int[] ErasureLocations)
+            throws UtilsException {
+        BitSet erased;
+        int[] erasures;
+        int[] known;
+        int[] schedule;
+        int blockLength;
+        int i, j, k;
+
+        blockLength = dataBytes + errorCorrectionBytes;
+        ReedSolomonEncoder.checkBatch(Buffer, Offset, Stride, Count, blockLength);
+        erased = new BitSet(blockLength);
+        for (i = 0; i < ErasureLocations.length; i++) {
+            if (ErasureLocations[i] < 0 || ErasureLocations[i] >= blockLength) {
+                throw new IllegalArgumentException("Bad erasure location");
+            }
+            erased.set(ErasureLocations[i]);
+        }
+        if (erased.cardinality() > errorCorrectionBytes) {
+            throw new UtilsException("Too many erasures");
+        }
+        if (erased.isEmpty()) {
+            return;
+        }
+        erasures = new int[erased.cardinality()];
+        known = new int[blockLength - erasures.length];
+        j = 0;
+        k = 0;
+        for (i = 0; i < blockLength; i++) {
+            if (erased.get(i)) {
+                erasures[j++] = i;
+            } else {
+                known[k++] = i;
+            }
+        }
+        synchronized (recoverySchedules) {
+            schedule = recoverySchedules.get(erased);
+        }
+        if (schedule == null) {
+            schedule = buildSchedule(expand(buildRecoveryMatrix(erasures, known)), known.length * symbolBits);
+            synchronized (recoverySchedules) {
+                recoverySchedules.put(erased, schedule);
+            }
+        }
+        run(schedule, Buffer, Offset, Stride, Count, known, erasures);
+    }
+
+    /*
+     * Matriz de paridad: parity[j] = sum(matrix[j][i] * data[i])
+     */
+    private int[][] buildParityMatrix() {
+        GenericGFPoly generator;
+        int[][] matrix;
+        int[] remainder;
+        int[] next;
+        int t, m, d, top;
+
+        t = errorCorrectionBytes;
+        generator = new GenericGFPoly(field, new int[]{1});
+        for (d = 0; d < t; d++) {
+            generator = generator.multiply(new GenericGFPoly(field, new int[]{1, field.exp(d)}));
+        }
+        matrix = new int[t][dataBytes];
+        // remainder[d] is the coefficient of x^d in x^(t + m) mod generator
+        remainder = new int[t];
+        for (d = 0; d < t; d++) {
+            remainder[d] = generator.getCoefficient(d);
+        }
+        for (m = 0; m < dataBytes; m++) {
+            for (d = 0; d < t; d++) {
+                matrix[t - 1 - d][dataBytes - 1 - m] = remainder[d];
+            }
+            top = remainder[t - 1];
+            next = new int[t];
+            for (d = 0; d < t; d++) {
+                next[d] = GenericGF.addOrSubtract(d > 0 ? remainder[d - 1] : 0,
+                        field.multiply(top, generator.getCoefficient(d)));
+            }
+            remainder = next;
+        }
+        return matrix;
+    }
+
+    /*
+     * Matriz de recuperacion: erased[a] = sum(matrix[a][b] * known[b])
+     */
+    private int[][] buildRecoveryMatrix(int[] erasures, int[] known) throws UtilsException {
+        int[][] check;
+        int[][] inverse;
+        int[][] matrix;
+        int e, n, a, b, j, sum;
+
+        e = erasures.length;
+        n = dataBytes + errorCorrectionBytes;
+        check = new int[e][e];
+        for (j = 0; j < e; j++) {
+            for (a = 0; a < e; a++) {
+                check[j][a] = checkCoefficient(j, n - 1 - erasures[a]);
+            }
+        }
+        inverse = invert(check);
+        matrix = new int[e][known.length];
+        for (a = 0; a < e; a++) {
+            for (b = 0; b < known.length; b++) {
+                sum = 0;
+                for (j = 0; j < e; j++) {
+                    sum = GenericGF.addOrSubtract(sum,
+                            field.multiply(inverse[a][j], checkCoefficient(j, n - 1 - known[b])));
+                }
+                matrix[a][b] = sum;
+            }
+        }
+        return matrix;
+    }
+
+    /*
+     * Coeficiente de la matriz de chequeo: (2^row)^degree
+     */
+    private int checkCoefficient(int row, int degree) {
+        return field.exp((row * degree) % (field.getSize() - 1));
+    }
+
+    /*
+     * Inversion de Gauss-Jordan en el campo de Galois
+     */
+    private int[][] invert(int[][] matrix) throws UtilsException {
+        int[][] work;
+        int[][] inverse;
+        int[] temp;
+        int n, col, row, pivot, i, scale;
+
+        n = matrix.length;
+        work = new int[n][];
+        inverse = new int[n][n];
+        for (i = 0; i < n; i++) {
+            work[i] = copyOf(matrix[i], n);
+            inverse[i][i] = 1;
+        }
+        for (col = 0; col < n; col++) {
+            pivot = col;
+            while (pivot < n && work[pivot][col] == 0) {
+                pivot++;
+            }
+            if (pivot == n) {
+                throw new UtilsException("Singular recovery matrix");
+            }
+            temp = work[pivot];
+            work[pivot] = work[col];
+            work[col] = temp;
+            temp = inverse[pivot];
+            inverse[pivot] = inverse[col];
+            inverse[col] = temp;
+            scale = field.inverse(work[col][col]);
+            for (i = 0; i < n; i++) {
+                work[col][i] = field.multiply(work[col][i], scale);
+                inverse[col][i] = field.multiply(inverse[col][i], scale);
+            }
+            for (row = 0; row < n; row++) {
+                if (row != col && work[row][col] != 0) {
+                    scale = work[row][col];
+                    for (i = 0; i < n; i++) {
+                        work[row][i] = GenericGF.addOrSubtract(work[row][i], field.multiply(work[col][i], scale));
+                        inverse[row][i] = GenericGF.addOrSubtract(inverse[row][i], field.multiply(inverse[col][i], scale));
+                    }
+                }
+            }
+        }
+        return inverse;
+    }
+
+    /*
+     * Expande cada constante del campo en una matriz binaria de w x w.
+     * El resultado tiene una fila (como conjunto de bits) por cada bit de salida.
+     */
+    private long[][] expand(int[][] matrix) {
+        long[][] rows;
+        int w, columns, words, r, c, outBit, inBit, column, product;
+
+        w = symbolBits;
+        columns = matrix[0].length * w;
+        words = (columns + WORD_BITS - 1) / WORD_BITS;
+        rows = new long[matrix.length * w][words];
+        for (r = 0; r < matrix.length; r++) {
+            for (c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] == 0) {
+                    continue;
+                }
+                for (inBit = 0; inBit < w; inBit++) {
+                    product = field.multiply(matrix[r][c], 1 << inBit);
+                    column = c * w + inBit;
+                    for (outBit = 0; outBit < w; outBit++) {
+                        if (((product >>> outBit) & 1) != 0) {
+                            rows[r * w + outBit][column / WORD_BITS] |= 1L << (column % WORD_BITS);
+                        }
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /*
+     * Genera la secuencia de XORs como pares (destino, origen). Los registros
+     * [0, inputs) son los bits de entrada y [inputs, inputs + rows) los de
+     * salida. Cada fila se calcula desde cero o desde una fila ya calculada,
+     * lo que requiera menos XORs.
+     */
+    private static int[] buildSchedule(long[][] rows, int inputs) {
+        int[] schedule;
+        int[] cost;
+        int[] from;
+        boolean[] done;
+        int ops, step, r, best, distance, q;
+        long bits;
+
+        cost = new int[rows.length];
+        from = new int[rows.length];
+        done = new boolean[rows.length];
+        ops = 0;
+        for (r = 0; r < rows.length; r++) {
+            cost[r] = weight(rows[r], null);
+            from[r] = -1;
+            ops += cost[r];
+        }
+        schedule = new int[2 * ops];
+        ops = 0;
+        for (step = 0; step < rows.length; step++) {
+            best = -1;
+            for (r = 0; r < rows.length; r++) {
+                if (!done[r] && (best < 0 || cost[r] < cost[best])) {
+                    best = r;
+                }
+            }
+            done[best] = true;
+            if (from[best] >= 0) {
+                schedule[ops++] = inputs + best;
+                schedule[ops++] = inputs + from[best];
+            }
+            for (q = 0; q < rows[best].length; q++) {
+                bits = rows[best][q];
+                if (from[best] >= 0) {
+                    bits ^= rows[from[best]][q];
+                }
+                while (bits != 0) {
+                    schedule[ops++] = inputs + best;
+                    schedule[ops++] = q * WORD_BITS + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            for (r = 0; r < rows.length; r++) {
+                if (!done[r]) {
+                    distance = weight(rows[r], rows[best]) + 1;
+                    if (distance < cost[r]) {
+                        cost[r] = distance;
+                        from[r] = best;
+                    }
+                }
+            }
+        }
+        return copyOf(schedule, ops);
+    }
+
+    /*
+     * Numero de bits diferentes entre dos filas (o bits en uno si other es null)
+     */
+    private static int weight(long[] row, long[] other) {
+        int count, q;
+
+        count = 0;
+        for (q = 0; q < row.length; q++) {
+            count += Long.bitCount(other == null ? row[q] : row[q] ^ other[q]);
+        }
+        return count;
+    }
+
+    /*
+     * Empaqueta los simbolos de entrada en planos de bits, ejecuta la
+     * secuencia de XORs y escribe los simbolos de salida en los bloques. Los
+     * bloques se procesan por grupos de TILE_WORDS * 64 para que los planos
+     * de bits permanezcan en el cache.
+     */
+    private void run(int[] schedule, byte[] buffer, int offset, int stride, int count,
+                     int[] inputPositions, int[] outputPositions) {
+        long[][] registers;
+        long[] destination;
+        long[] source;
+        int w, words, inputs, tile, lanes, base, i, b, q, lane, value;
+        long bits;
+
+        w = symbolBits;
+        inputs = inputPositions.length * w;
+        // A single block only needs one word per plane, not the whole tile
+        registers = new long[inputs + outputPositions.length * w]
+                [Math.min(TILE_WORDS, (count + WORD_BITS - 1) / WORD_BITS)];
+        for (tile = 0; tile < count; tile += TILE_WORDS * WORD_BITS) {
+            lanes = Math.min(TILE_WORDS * WORD_BITS, count - tile);
+            words = (lanes + WORD_BITS - 1) / WORD_BITS;
+            for (i = 0; i < inputs; i++) {
+                for (q = 0; q < words; q++) {
+                    registers[i][q] = 0;
+                }
+            }
+            for (lane = 0; lane < lanes; lane++) {
+                base = offset + (tile + lane) * stride;
+                for (i = 0; i < inputPositions.length; i++) {
+                    value = buffer[base + inputPositions[i]] & 0x000000FF;
+                    if (value >= field.getSize()) {
+                        // The extra bits would be packed into the planes of the next symbol
+                        throw new IllegalArgumentException("Symbol exceeds the field size");
+                    }
+                    while (value != 0) {
+                        b = Integer.numberOfTrailingZeros(value);
+                        registers[i * w + b][lane / WORD_BITS] |= 1L << (lane % WORD_BITS);
+                        value &= value - 1;
+                    }
+                }
+            }
+            // Output registers start at zero and are cleared again when unpacked
+            for (i = 0; i < schedule.length; i += 2) {
+                destination = registers[schedule[i]];
+                source = registers[schedule[i + 1]];
+                for (q = 0; q < words; q++) {
+                    destination[q] ^= source[q];
+                }
+            }
+            for (lane = 0; lane < lanes; lane++) {
+                base = offset + (tile + lane) * stride;
+                for (i = 0; i < outputPositions.length; i++) {
+                    buffer[base + outputPositions[i]] = 0;
+                }
+            }
+            for (i = 0; i < outputPositions.length; i++) {
+                for (b = 0; b < w; b++) {
+                    for (q = 0; q < words; q++) {
+                        bits = registers[inputs + i * w + b][q];
+                        registers[inputs + i * w + b][q] = 0;
+                        while (bits != 0) {
+                            lane = q * WORD_BITS + Long.numberOfTrailingZeros(bits);
+                            buffer[offset + (tile + lane) * stride + outputPositions[i]] |= (byte) (1 << b);
+                            bits &= bits - 1;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int[] copyOf(int[] source, int length) {
+        int[] result = new int[length];
+        System.arraycopy(source, 0, result, 0, Math.min(length, source.length));
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's pool of direct buffers Class.<br/><br/>
+ * <p>
+ * Direct buffers are expensive to allocate and are released only by the
+ * garbage collector, so the datagram layer reuses them through this
+ * pool. Instances of this class are thread safe.<br/><br/>
+ * <p>
+ * Esta clase implementa un deposito de buffers directos de tamaño
+ * fijo.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ArrayDeque<ByteBuffer> pool;
+
+    /**
+     * Constructor con el tamaño de los buffers y el maximo de buffers libres
+     * retenidos
+     *
+     * @param BufferSize Tamaño de cada buffer en bytes
+     * @param MaxPooled  Maximo de buffers libres retenidos por el deposito
+     */
+    public DirectBufferPool(int BufferSize, int MaxPooled) {
+        if (BufferSize <= 0 || MaxPooled < 0) {
+            throw new IllegalArgumentException("Bad pool dimensions");
+        }
+        this.bufferSize = BufferSize;
+        this.maxPooled = MaxPooled;
+        this.pool = new ArrayDeque<ByteBuffer>();
+    }
+
+    /**
+     * Obtiene un buffer limpio del deposito o crea uno nuevo
+     *
+     * @return Buffer directo listo para escritura
+     */
+    public synchronized ByteBuffer acquire() {
+        ByteBuffer buffer = pool.pollFirst();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Devuelve un buffer al deposito
+     *
+     * @param Buffer Buffer obtenido con {@link #acquire()}
+     */
+    public synchronized void release(ByteBuffer Buffer) {
+        if (Buffer.capacity() != bufferSize || !Buffer.isDirect()) {
+            throw new IllegalArgumentException("Buffer does not belong to the pool");
+        }
+        if (pool.size() < maxPooled) {
+            pool.addFirst(Buffer);
+        }
+    }
+
+    /**
+     * Retorna el tamaño de los buffers del deposito
+     *
+     * @return Tamaño de los buffers en bytes
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
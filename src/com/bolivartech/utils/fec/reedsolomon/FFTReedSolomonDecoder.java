@@ -0,0 +1,129 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import com.valhala.utils.exception.UtilsException;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's Reed-Solomon FFT erasure decoding
+ * Class.<br/><br/>
+ * <p>
+ * Recovers the lost shards of a {@link FFTReedSolomonEncoder} code in
+ * O(n log n): the received values are multiplied by the erasure locator
+ * L(x), interpolated, derived and evaluated again, then every lost value is
+ * (f L)'(e) / L'(e). The shard limits are those of
+ * {@link FFTReedSolomonEncoder}.<br/><br/>
+ * <p>
+ * Esta clase implementa la decodificacion de borraduras Reed-Solomon con
+ * la FFT aditiva.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class FFTReedSolomonDecoder {
+
+    private final GenericGF field;
+    private final AdditiveFFT fft;
+
+    /**
+     * Constructor por defecto con inicializacion de campo de Galois
+     *
+     * @param GField Campo de Galois
+     */
+    public FFTReedSolomonDecoder(GenericGF GField) {
+        if (!GenericGF.FIELD_65536.equals(GField)) {
+            throw new IllegalArgumentException("Only the 65536 field is supported at this time");
+        }
+        this.field = GField;
+        this.fft = new AdditiveFFT(GField);
+    }
+
+    /**
+     * Recupera los fragmentos perdidos
+     *
+     * @param Shards     Fragmentos de datos seguidos de los de paridad, null
+     *                   para los fragmentos perdidos
+     * @param DataShards Numero de fragmentos de datos
+     * @return Todos los fragmentos, con los perdidos recuperados
+     * @throws UtilsException Si hay mas fragmentos perdidos que de paridad
+     */
+    public byte[][] decode(byte[][] Shards, int DataShards) throws UtilsException {
+        byte[][] Output;
+        boolean[] erased;
+        int[][] work;
+        int[] locator;
+        int parityShards, parityCount, size, symbols, lost, point, i;
+
+        parityShards = Shards.length - DataShards;
+        if (DataShards <= 0 || parityShards <= 0) {
+            throw new IllegalArgumentException("Bad number of data shards");
+        }
+        parityCount = Integer.highestOneBit(2 * parityShards - 1);
+        if (parityCount + DataShards > field.getSize()) {
+            throw new IllegalArgumentException(FFTReedSolomonEncoder.tooManyShards(DataShards, parityCount, field));
+        }
+        symbols = FFTReedSolomonEncoder.checkShards(Shards);
+        size = Integer.highestOneBit(2 * (parityCount + DataShards) - 1);
+        erased = new boolean[size];
+        lost = 0;
+        for (i = 0; i < Shards.length; i++) {
+            if (Shards[i] == null) {
+                erased[point(i, DataShards, parityCount)] = true;
+                lost++;
+            }
+        }
+        Output = new byte[Shards.length][];
+        if (lost == 0) {
+            for (i = 0; i < Shards.length; i++) {
+                Output[i] = Shards[i].clone();
+            }
+            return Output;
+        }
+        if (lost > parityShards) {
+            throw new UtilsException("Too many lost shards");
+        }
+        // The parity points that are never sent are erasures too
+        for (point = parityShards; point < parityCount; point++) {
+            erased[point] = true;
+        }
+        locator = fft.locatorLogs(erased, size);
+        work = new int[size][];
+        for (point = 0; point < size; point++) {
+            work[point] = new int[symbols];
+        }
+        for (i = 0; i < Shards.length; i++) {
+            if (Shards[i] != null) {
+                point = point(i, DataShards, parityCount);
+                work[point] = FFTReedSolomonEncoder.toSymbols(Shards[i]);
+                fft.multiply(work[point], locator[point]);
+            }
+        }
+        fft.ifft(work, size, 0);
+        fft.formalDerivative(work, size);
+        fft.fft(work, size, 0);
+        for (i = 0; i < Shards.length; i++) {
+            if (Shards[i] != null) {
+                Output[i] = Shards[i].clone();
+            } else {
+                point = point(i, DataShards, parityCount);
+                fft.multiply(work[point], (fft.getModulus() - locator[point]) % fft.getModulus());
+                Output[i] = FFTReedSolomonEncoder.toBytes(work[point]);
+            }
+        }
+        return Output;
+    }
+
+    /*
+     * Punto del campo asignado a cada fragmento
+     */
+    private static int point(int shard, int dataShards, int parityCount) {
+        return shard < dataShards ? parityCount + shard : shard - dataShards;
+    }
+}
@@ -0,0 +1,158 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's Reed-Solomon FFT Encoding
+ * Class.<br/><br/>
+ * <p>
+ * Encodes Reed-Solomon shards in O(n log n) over GF(2^16) with the additive
+ * FFT. Each shard is a vector of 16 bits symbols (two bytes per symbol, most
+ * significant first), all shards must have the same even length. With m the
+ * parity count rounded up to a power of 2, the parity shards are the points
+ * [0, m) and the data shards the points [m, m + k) of a Reed-Solomon code
+ * over the points [0, n), n = m + k rounded up to a power of 2; the unused
+ * points are shortened (zero) or punctured (not sent). Since the parity
+ * occupies m points, the limit is k + m &lt;= 65536: for example 60000 data
+ * shards allow up to 4096 parity shards, not 5536.<br/><br/>
+ * <p>
+ * Esta clase implementa la codificacion Reed-Solomon con la FFT
+ * aditiva.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class FFTReedSolomonEncoder {
+
+    private final GenericGF field;
+    private final AdditiveFFT fft;
+
+    /**
+     * Constructor por defecto con inicializacion del campo de Galois
+     *
+     * @param GField Campo de Galois
+     */
+    public FFTReedSolomonEncoder(GenericGF GField) {
+        if (!GenericGF.FIELD_65536.equals(GField)) {
+            throw new IllegalArgumentException("Only the 65536 field is supported at this time");
+        }
+        this.field = GField;
+        this.fft = new AdditiveFFT(GField);
+    }
+
+    /**
+     * Codifica los fragmentos de datos y genera los fragmentos de paridad
+     *
+     * @param DataShards   Fragmentos de datos originales, ninguno puede ser null
+     * @param ParityShards Numero de fragmentos de paridad; los fragmentos de
+     *                     datos mas la paridad redondeada a potencia de 2 no
+     *                     pueden exceder el tamaño del campo
+     * @return Fragmentos de paridad
+     */
+    public byte[][] encode(byte[][] DataShards, int ParityShards) {
+        int[][] work;
+        int[][] chunk;
+        byte[][] Output;
+        int dataCount, parityCount, symbols, chunkStart, i, j;
+
+        dataCount = DataShards.length;
+        if (ParityShards <= 0) {
+            throw new IllegalArgumentException("No parity shards");
+        }
+        if (dataCount <= 0) {
+            throw new IllegalArgumentException("No data shards provided");
+        }
+        parityCount = Integer.highestOneBit(2 * ParityShards - 1);
+        if (parityCount + dataCount > field.getSize()) {
+            throw new IllegalArgumentException(tooManyShards(dataCount, parityCount, field));
+        }
+        for (i = 0; i < dataCount; i++) {
+            if (DataShards[i] == null) {
+                throw new IllegalArgumentException("Data shard " + i + " is null");
+            }
+        }
+        symbols = checkShards(DataShards);
+        // The parity is the evaluation at [0, m) of the sum of the interpolations of every data chunk
+        work = new int[parityCount][symbols];
+        for (chunkStart = 0; chunkStart < dataCount; chunkStart += parityCount) {
+            chunk = new int[parityCount][];
+            for (i = 0; i < parityCount; i++) {
+                chunk[i] = chunkStart + i < dataCount ? toSymbols(DataShards[chunkStart + i]) : new int[symbols];
+            }
+            fft.ifft(chunk, parityCount, parityCount + chunkStart);
+            for (i = 0; i < parityCount; i++) {
+                for (j = 0; j < symbols; j++) {
+                    work[i][j] ^= chunk[i][j];
+                }
+            }
+        }
+        fft.fft(work, parityCount, 0);
+        Output = new byte[ParityShards][];
+        for (i = 0; i < ParityShards; i++) {
+            Output[i] = toBytes(work[i]);
+        }
+        return Output;
+    }
+
+    /**
+     * Verifica que los fragmentos tengan la misma longitud par
+     *
+     * @param Shards Fragmentos (los null son ignorados)
+     * @return Numero de simbolos por fragmento
+     */
+    static int checkShards(byte[][] Shards) {
+        int length = -1;
+        for (int i = 0; i < Shards.length; i++) {
+            if (Shards[i] != null) {
+                if (length < 0) {
+                    length = Shards[i].length;
+                }
+                if (Shards[i].length != length || length == 0 || (length & 1) != 0) {
+                    throw new IllegalArgumentException("Shards must have the same non zero even length");
+                }
+            }
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("No shards provided");
+        }
+        return length / 2;
+    }
+
+    /**
+     * Mensaje de error cuando los fragmentos no caben en el campo
+     */
+    static String tooManyShards(int DataShards, int ParityCount, GenericGF GField) {
+        return "Too many shards for the field: " + DataShards + " data shards plus the parity rounded up to "
+                + ParityCount + " exceed " + GField.getSize();
+    }
+
+    /**
+     * Convierte el fragmento en simbolos de 16 bits
+     */
+    static int[] toSymbols(byte[] Shard) {
+        int[] symbols = new int[Shard.length / 2];
+        for (int t = 0; t < symbols.length; t++) {
+            symbols[t] = ((Shard[2 * t] & 0x000000FF) << 8) | (Shard[2 * t + 1] & 0x000000FF);
+        }
+        return symbols;
+    }
+
+    /**
+     * Convierte los simbolos de 16 bits en un fragmento
+     */
+    static byte[] toBytes(int[] Symbols) {
+        byte[] shard = new byte[Symbols.length * 2];
+        for (int t = 0; t < Symbols.length; t++) {
+            shard[2 * t] = (byte) (Symbols[t] >>> 8);
+            shard[2 * t + 1] = (byte) Symbols[t];
+        }
+        return shard;
+    }
+}
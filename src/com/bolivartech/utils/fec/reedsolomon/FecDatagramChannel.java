@@ -0,0 +1,133 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's FEC protected datagram channel
+ * Class.<br/><br/>
+ * <p>
+ * Sends datagrams through a {@link SlidingWindowEncoder} and receives them
+ * through a {@link SlidingWindowDecoder} over a {@link DatagramChannel},
+ * using pooled direct buffers for the I/O. The blocking mode of the channel
+ * is not changed. Either codec may be null for send only or receive only
+ * channels.<br/><br/>
+ * <p>
+ * A datagram that fills the whole receive buffer may have been truncated
+ * by the channel, so it is discarded; the pool buffers must therefore be
+ * larger than the largest datagram, as sized by
+ * {@link SlidingWindowEncoder#getPacketSize()}.<br/><br/>
+ * <p>
+ * Esta clase implementa un canal de datagramas protegido con correccion de
+ * errores hacia adelante.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class FecDatagramChannel {
+
+    private final DatagramChannel channel;
+    private final SlidingWindowEncoder encoder;
+    private final SlidingWindowDecoder decoder;
+    private final DirectBufferPool pool;
+    private long truncated = 0;
+
+    /**
+     * Constructor con el canal, los codificadores y el deposito de buffers
+     *
+     * @param Channel Canal de datagramas
+     * @param Encoder Codificador de envio (null si solo recibe)
+     * @param Decoder Decodificador de recepcion (null si solo envia)
+     * @param Pool    Deposito de buffers directos de
+     *                {@link SlidingWindowEncoder#getPacketSize()} bytes
+     */
+    public FecDatagramChannel(DatagramChannel Channel, SlidingWindowEncoder Encoder,
+                              SlidingWindowDecoder Decoder, DirectBufferPool Pool) {
+        this.channel = Channel;
+        this.encoder = Encoder;
+        this.decoder = Decoder;
+        this.pool = Pool;
+    }
+
+    /**
+     * Envia un datagrama fuente y los datagramas de reparacion que le
+     * correspondan
+     *
+     * @param Payload Datagrama fuente (se consume desde su posicion)
+     * @param Target  Direccion destino
+     * @throws IOException Si falla el envio
+     */
+    public void send(ByteBuffer Payload, SocketAddress Target) throws IOException {
+        List<ByteBuffer> packets;
+        int i;
+
+        if (encoder == null) {
+            throw new IllegalStateException("Receive only channel");
+        }
+        packets = encoder.encode(Payload, pool);
+        try {
+            for (i = 0; i < packets.size(); i++) {
+                channel.send(packets.get(i), Target);
+            }
+        } finally {
+            for (i = 0; i < packets.size(); i++) {
+                pool.release(packets.get(i));
+            }
+        }
+    }
+
+    /**
+     * Recibe un datagrama y retorna los datagramas fuente que quedan
+     * disponibles. La lista es vacia si el datagrama recibido no libera datos
+     * nuevos, si fue descartado por truncado, o en modo no bloqueante si no
+     * hay datagramas pendientes.
+     *
+     * @return Datagramas fuente nuevos, posiblemente fuera de orden
+     * @throws IOException Si falla la recepcion
+     */
+    public List<byte[]> receive() throws IOException {
+        ByteBuffer packet;
+
+        if (decoder == null) {
+            throw new IllegalStateException("Send only channel");
+        }
+        packet = pool.acquire();
+        try {
+            if (channel.receive(packet) == null) {
+                return new ArrayList<byte[]>();
+            }
+            if (!packet.hasRemaining()) {
+                // The datagram may not have fit in the buffer
+                truncated++;
+                return new ArrayList<byte[]>();
+            }
+            packet.flip();
+            return decoder.decode(packet);
+        } finally {
+            pool.release(packet);
+        }
+    }
+
+    /**
+     * Retorna el numero de datagramas descartados por llenar el buffer de
+     * recepcion
+     *
+     * @return Datagramas truncados
+     */
+    public long getTruncated() {
+        return truncated;
+    }
+}
@@ -15,7 +15,12 @@ package com.bolivartech.utils.fec.reedsolomon;
  * calculations.<br/><br/>
  * <p>
  * Throughout this package, elements of the GF are represented as an {@code int}
- * for convenience and speed (but at the cost of memory).<br/><br/>
+ * for convenience and speed. The exponential and logarithm tables are
+ * chosen by the field size: separate {@code int[]} tables up to GF(256),
+ * where they are small and fastest, and above it a single {@code char[]}
+ * table with both interleaved ({@code exp(i)} next to {@code log(i)}), half
+ * the memory of the {@code int[]} tables and as fast or faster once the
+ * tables outgrow the cache.<br/><br/>
  * <p>
  * Esta clase implementa utilidades para le manejo de campos de
  * Galois.<br/><br/><br/><br/>
@@ -30,6 +35,7 @@ public final class GenericGF {
     /**
      * Campos de Galois estandars
      */
+    public static final GenericGF FIELD_65536 = new GenericGF(0x1002D, 65536); // x^16 + x^5 + x^3 + x^2 + 1
     public static final GenericGF AZTEC_DATA_12 = new GenericGF(0x1069, 4096); // x^12 + x^6 + x^5 + x^3 + 1
     public static final GenericGF AZTEC_DATA_10 = new GenericGF(0x409, 1024); // x^10 + x^3 + 1
     public static final GenericGF AZTEC_DATA_6 = new GenericGF(0x43, 64); // x^6 + x + 1
@@ -43,10 +49,15 @@ public final class GenericGF {
      * Variables privadas
      */
     private static final int INITIALIZATION_THRESHOLD = 0;
+    private static final int LAYOUT_WIDE = 0;
+    private static final int LAYOUT_CHAR = 1;
+    private static final int WIDE_MAX_SIZE = 256;
     private final int size;
     private final int primitive;
+    private final int layout;
     private int[] expTable;
     private int[] logTable;
+    private char[] charTable;
     private GenericGFPoly zero;
     private GenericGFPoly one;
     private boolean initialized = false;
@@ -61,8 +72,30 @@ public final class GenericGF {
      * @param size      Tamaño de los coeficientes del polinomio
      */
     public GenericGF(int primitive, int size) {
+        this(primitive, size, size > WIDE_MAX_SIZE);
+    }
+
+    /**
+     * Crea una representacion del campo de Galois de la forma GF(size) usando
+     * el polinomio primitivo proporcionado y eligiendo la representacion de
+     * las tablas
+     *
+     * @param primitive     Polinomio irreductible cuyos coeficientes son
+     *                      representados por los bits de un entero
+     * @param size          Tamaño de los coeficientes del polinomio
+     * @param CompactTables Si es verdadero las tablas se intercalan en un
+     *                      char[] (hasta GF(65536)), si es falso usan int[]
+     *                      separados; por defecto compactas por encima de
+     *                      GF(256)
+     */
+    public GenericGF(int primitive, int size, boolean CompactTables) {
         this.primitive = primitive;
         this.size = size;
+        if (CompactTables && size <= 65536) {
+            this.layout = LAYOUT_CHAR;
+        } else {
+            this.layout = LAYOUT_WIDE;
+        }
 
         if (size <= INITIALIZATION_THRESHOLD) {
             initialize();
@@ -82,11 +115,11 @@ public final class GenericGF {
      * Inicializador del polinomio
      */
     private void initialize() {
-        expTable = new int[size];
-        logTable = new int[size];
+        int[] exps = new int[size];
+        int[] logs = new int[size];
         int x = 1;
         for (int i = 0; i < size; i++) {
-            expTable[i] = x;
+            exps[i] = x;
             x <<= 1; // x = x * 2; we're assuming the generator alpha is 2
             if (x >= size) {
                 x ^= primitive;
@@ -94,9 +127,19 @@ public final class GenericGF {
             }
         }
         for (int i = 0; i < size - 1; i++) {
-            logTable[expTable[i]] = i;
+            logs[exps[i]] = i;
         }
         // logTable[0] == 0 but this should never be used
+        if (layout == LAYOUT_CHAR) {
+            charTable = new char[2 * size];
+            for (int i = 0; i < size; i++) {
+                charTable[2 * i] = (char) exps[i];
+                charTable[2 * i + 1] = (char) logs[i];
+            }
+        } else {
+            expTable = exps;
+            logTable = logs;
+        }
         zero = new GenericGFPoly(this, new int[]{0});
         one = new GenericGFPoly(this, new int[]{1});
         initialized = true;
@@ -144,7 +187,7 @@ public final class GenericGF {
      */
     int exp(int a) {
         checkInit();
-        return expTable[a];
+        return expAt(a);
     }
 
     /**
@@ -158,7 +201,7 @@ public final class GenericGF {
         if (a == 0) {
             throw new IllegalArgumentException();
         }
-        return logTable[a];
+        return logAt(a);
     }
 
     /**
@@ -172,7 +215,7 @@ public final class GenericGF {
         if (a == 0) {
             throw new ArithmeticException();
         }
-        return expTable[size - logTable[a] - 1];
+        return expAt(size - logAt(a) - 1);
     }
 
     /**
@@ -193,8 +236,28 @@ public final class GenericGF {
             a++;
         }
 
-        int logSum = logTable[a] + logTable[b];
-        return expTable[(logSum % size) + logSum / size];
+        int logSum = logAt(a) + logAt(b);
+        return expAt((logSum % size) + logSum / size);
+    }
+
+    /*
+     * Lectura de la tabla exponencial segun la representacion del campo
+     */
+    private int expAt(int a) {
+        if (layout == LAYOUT_WIDE) {
+            return expTable[a];
+        }
+        return charTable[a << 1];
+    }
+
+    /*
+     * Lectura de la tabla de logaritmos segun la representacion del campo
+     */
+    private int logAt(int a) {
+        if (layout == LAYOUT_WIDE) {
+            return logTable[a];
+        }
+        return charTable[(a << 1) + 1];
     }
 
     /**
@@ -205,4 +268,55 @@ public final class GenericGF {
     public int getSize() {
         return size;
     }
+
+    /**
+     * Retorna el polinomio primitivo del campo de Galois. Un campo creado con
+     * el mismo polinomio es una instancia distinta: los codificadores
+     * comparan los campos por identidad, por lo que no reemplaza a los campos
+     * estandar de esta clase.
+     *
+     * @return Polinomio primitivo representado por los bits de un entero
+     */
+    public int getPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * Retorna la memoria ocupada por las tablas exponencial y de logaritmos,
+     * incluyendo el encabezado de los arreglos (estimado en 16 bytes por
+     * arreglo, alineado a 8 bytes)
+     *
+     * @return Bytes ocupados por las tablas
+     */
+    public long getTableBytes() {
+        if (layout == LAYOUT_CHAR) {
+            return arrayBytes(2L * size, 2);
+        }
+        return 2 * arrayBytes(size, 4);
+    }
+
+    /**
+     * Retorna un reporte de la representacion y la memoria de las tablas del
+     * campo
+     *
+     * @return Reporte de memoria del campo
+     */
+    public String getMemoryReport() {
+        String tables;
+
+        if (layout == LAYOUT_CHAR) {
+            tables = "interleaved char[" + (2 * size) + "]";
+        } else {
+            tables = "int[" + size + "] x 2";
+        }
+        return "GF(" + size + ") primitive 0x" + Integer.toHexString(primitive).toUpperCase() + ": " + tables
+                + ", " + getTableBytes() + " bytes" + (initialized ? "" : " (not initialized)");
+    }
+
+    /*
+     * Tamaño estimado de un arreglo en el heap
+     */
+    private static long arrayBytes(long length, int elementBytes) {
+        return (16 + length * elementBytes + 7) & ~7L;
+    }
 }
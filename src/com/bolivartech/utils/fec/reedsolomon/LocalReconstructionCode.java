@@ -0,0 +1,358 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import com.valhala.utils.exception.UtilsException;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's Locally Repairable Code (LRC)
+ * Class.<br/><br/>
+ * <p>
+ * The k data shards are split in l local groups of consecutive shards and
+ * every group gets a local parity shard (the sum of its data shards), on
+ * top of r global parity shards computed by {@link ReedSolomonEncoder} over
+ * every byte column of the data shards. A single lost shard is repaired
+ * reading only its local group (about k / l shards instead of k); when a
+ * group loses more than one shard the global parity is used through the
+ * erasure decoding of {@link BitMatrixCodec}.<br/><br/>
+ * <p>
+ * Shard layout: data [0, k), local parity [k, k + l), global parity
+ * [k + l, k + l + r).<br/><br/>
+ * <p>
+ * Esta clase implementa los codigos de reparacion local sobre
+ * Reed-Solomon.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class LocalReconstructionCode {
+
+    private final int dataShards;
+    private final int localGroups;
+    private final int globalParityShards;
+    private final int groupSize;
+    private final ReedSolomonEncoder encoder;
+    private final BitMatrixCodec globalCodec;
+
+    /**
+     * Constructor con inicializacion del campo de Galois y de la geometria
+     * del codigo
+     *
+     * @param GField             Campo de Galois
+     * @param DataShards         Numero de fragmentos de datos (k)
+     * @param LocalGroups        Numero de grupos locales (l)
+     * @param GlobalParityShards Numero de fragmentos de paridad global (r)
+     */
+    public LocalReconstructionCode(GenericGF GField, int DataShards, int LocalGroups, int GlobalParityShards) {
+        if (LocalGroups <= 0 || LocalGroups > DataShards) {
+            throw new IllegalArgumentException("Bad number of local groups");
+        }
+        if ((LocalGroups - 1) * ((DataShards + LocalGroups - 1) / LocalGroups) >= DataShards) {
+            throw new IllegalArgumentException("Data shards do not fill the local groups");
+        }
+        this.encoder = new ReedSolomonEncoder(GField);
+        this.globalCodec = new BitMatrixCodec(GField, DataShards, GlobalParityShards);
+        this.dataShards = DataShards;
+        this.localGroups = LocalGroups;
+        this.globalParityShards = GlobalParityShards;
+        this.groupSize = (DataShards + LocalGroups - 1) / LocalGroups;
+    }
+
+    /**
+     * Retorna el numero total de fragmentos (k + l + r)
+     *
+     * @return Numero total de fragmentos
+     */
+    public int getTotalShards() {
+        return dataShards + localGroups + globalParityShards;
+    }
+
+    /**
+     * Retorna el grupo local de un fragmento de datos o de paridad local
+     *
+     * @param Shard Indice del fragmento
+     * @return Grupo local, o -1 para la paridad global
+     */
+    public int getGroup(int Shard) {
+        checkShard(Shard);
+        if (Shard < dataShards) {
+            return Shard / groupSize;
+        }
+        if (Shard < dataShards + localGroups) {
+            return Shard - dataShards;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna los fragmentos que deben leerse para reparar un unico fragmento
+     * perdido. Solo esos fragmentos deben pasarse a {@link #repair}; la
+     * reparacion con {@link #decode} necesita todos los fragmentos no
+     * perdidos, porque un null alli significa perdido y no "no leido"
+     *
+     * @param Shard Indice del fragmento perdido
+     * @return Indices de los fragmentos a leer
+     */
+    public int[] repairReads(int Shard) {
+        int[] reads;
+        int group, first, last, i, j;
+
+        group = getGroup(Shard);
+        if (group < 0) {
+            // Global parity is encoded again from all the data
+            reads = new int[dataShards];
+            for (i = 0; i < dataShards; i++) {
+                reads[i] = i;
+            }
+            return reads;
+        }
+        first = group * groupSize;
+        last = Math.min(dataShards, first + groupSize);
+        reads = new int[last - first];
+        j = 0;
+        for (i = first; i < last; i++) {
+            if (i != Shard) {
+                reads[j++] = i;
+            }
+        }
+        if (Shard != dataShards + group) {
+            reads[j++] = dataShards + group;
+        }
+        return reads;
+    }
+
+    /**
+     * Repara un unico fragmento perdido leyendo solo los fragmentos
+     * indicados por {@link #repairReads}; los demas fragmentos pueden ser
+     * null
+     *
+     * @param Shard  Indice del fragmento perdido
+     * @param Shards Todos los fragmentos (datos, locales y globales), con al
+     *               menos los de {@link #repairReads} presentes
+     * @return Fragmento reparado
+     * @throws UtilsException Si falta alguno de los fragmentos a leer
+     */
+    public byte[] repair(int Shard, byte[][] Shards) throws UtilsException {
+        byte[][] reads;
+        int[] indices;
+        int length, group, i;
+
+        if (Shards.length != getTotalShards()) {
+            throw new IllegalArgumentException("Bad number of shards");
+        }
+        indices = repairReads(Shard);
+        reads = new byte[Shards.length][];
+        for (i = 0; i < indices.length; i++) {
+            if (Shards[indices[i]] == null) {
+                throw new UtilsException("Repair read shard " + indices[i] + " is lost");
+            }
+            reads[indices[i]] = Shards[indices[i]];
+        }
+        length = shardLength(reads);
+        group = getGroup(Shard);
+        if (group < 0) {
+            return globalParity(reads, length)[Shard - dataShards - localGroups];
+        }
+        return localParity(reads, group, Shard, length);
+    }
+
+    /**
+     * Codifica los fragmentos de datos y genera las paridades locales
+     * seguidas de las globales
+     *
+     * @param DataShards Fragmentos de datos, todos de la misma longitud
+     * @return Fragmentos de paridad: l locales seguidos de r globales
+     */
+    public byte[][] encode(byte[][] DataShards) {
+        byte[][] Output;
+        byte[][] global;
+        int length, i;
+
+        if (DataShards.length != dataShards) {
+            throw new IllegalArgumentException("Bad number of data shards");
+        }
+        length = shardLength(DataShards);
+        Output = new byte[localGroups + globalParityShards][];
+        for (i = 0; i < localGroups; i++) {
+            Output[i] = localParity(DataShards, i, -1, length);
+        }
+        global = globalParity(DataShards, length);
+        for (i = 0; i < globalParityShards; i++) {
+            Output[localGroups + i] = global[i];
+        }
+        return Output;
+    }
+
+    /**
+     * Recupera los fragmentos perdidos: primero con los grupos locales que
+     * perdieron un solo fragmento y despues con la paridad global
+     *
+     * @param Shards Todos los fragmentos (datos, locales y globales), null
+     *               para los perdidos
+     * @return Todos los fragmentos, con los perdidos recuperados
+     * @throws UtilsException Si los fragmentos perdidos no pueden recuperarse
+     */
+    public byte[][] decode(byte[][] Shards) throws UtilsException {
+        byte[][] Output;
+        byte[] columns;
+        byte[] recovered;
+        int[] erasures;
+        int length, stride, group, missing, lost, i, q;
+
+        if (Shards.length != getTotalShards()) {
+            throw new IllegalArgumentException("Bad number of shards");
+        }
+        length = shardLength(Shards);
+        Output = Shards.clone();
+        // Local repair: groups with a single lost shard
+        for (group = 0; group < localGroups; group++) {
+            missing = -1;
+            lost = 0;
+            for (i = group * groupSize; i < Math.min(dataShards, (group + 1) * groupSize); i++) {
+                if (Output[i] == null) {
+                    missing = i;
+                    lost++;
+                }
+            }
+            if (Output[dataShards + group] == null) {
+                missing = dataShards + group;
+                lost++;
+            }
+            if (lost == 1) {
+                Output[missing] = localParity(Output, group, missing, length);
+            }
+        }
+        // Global repair over the Reed-Solomon codeword (data and global parity)
+        lost = 0;
+        for (i = 0; i < dataShards + globalParityShards; i++) {
+            if (Output[globalIndex(i)] == null) {
+                lost++;
+            }
+        }
+        if (lost > 0) {
+            if (lost > globalParityShards) {
+                throw new UtilsException("Too many lost shards");
+            }
+            erasures = new int[lost];
+            lost = 0;
+            for (i = 0; i < dataShards + globalParityShards; i++) {
+                if (Output[globalIndex(i)] == null) {
+                    erasures[lost++] = i;
+                }
+            }
+            // Same packed column layout as the encoding, decoded in place
+            stride = dataShards + globalParityShards;
+            columns = new byte[length * stride];
+            for (i = 0; i < stride; i++) {
+                if (Output[globalIndex(i)] != null) {
+                    for (q = 0; q < length; q++) {
+                        columns[q * stride + i] = Output[globalIndex(i)][q];
+                    }
+                }
+            }
+            globalCodec.decode(columns, 0, stride, length, erasures);
+            for (i = 0; i < erasures.length; i++) {
+                recovered = new byte[length];
+                for (q = 0; q < length; q++) {
+                    recovered[q] = columns[q * stride + erasures[i]];
+                }
+                Output[globalIndex(erasures[i])] = recovered;
+            }
+        }
+        // Local parity lost together with other shards of its group
+        for (group = 0; group < localGroups; group++) {
+            if (Output[dataShards + group] == null) {
+                Output[dataShards + group] = localParity(Output, group, dataShards + group, length);
+            }
+        }
+        return Output;
+    }
+
+    /*
+     * Suma de los fragmentos del grupo (datos y paridad local), excepto skip
+     */
+    private byte[] localParity(byte[][] shards, int group, int skip, int length) {
+        byte[] parity;
+        int i, q;
+
+        parity = new byte[length];
+        for (i = group * groupSize; i < Math.min(dataShards, (group + 1) * groupSize); i++) {
+            if (i != skip) {
+                for (q = 0; q < length; q++) {
+                    parity[q] ^= shards[i][q];
+                }
+            }
+        }
+        if (skip >= 0 && skip != dataShards + group) {
+            for (q = 0; q < length; q++) {
+                parity[q] ^= shards[dataShards + group][q];
+            }
+        }
+        return parity;
+    }
+
+    /*
+     * Paridad global: un bloque Reed-Solomon por cada columna de bytes,
+     * codificados por lotes
+     */
+    private byte[][] globalParity(byte[][] shards, int length) {
+        byte[][] parity;
+        byte[] columns;
+        int stride, i, q;
+
+        stride = dataShards + globalParityShards;
+        columns = new byte[length * stride];
+        for (i = 0; i < dataShards; i++) {
+            for (q = 0; q < length; q++) {
+                columns[q * stride + i] = shards[i][q];
+            }
+        }
+        encoder.encodeBatch(columns, 0, stride, length, dataShards, globalParityShards);
+        parity = new byte[globalParityShards][length];
+        for (i = 0; i < globalParityShards; i++) {
+            for (q = 0; q < length; q++) {
+                parity[i][q] = columns[q * stride + dataShards + i];
+            }
+        }
+        return parity;
+    }
+
+    /*
+     * Indice del fragmento que ocupa la posicion del bloque Reed-Solomon
+     */
+    private int globalIndex(int position) {
+        return position < dataShards ? position : position + localGroups;
+    }
+
+    /*
+     * Longitud comun de los fragmentos presentes
+     */
+    private static int shardLength(byte[][] shards) {
+        int length = -1;
+        for (int i = 0; i < shards.length; i++) {
+            if (shards[i] != null) {
+                if (length >= 0 && shards[i].length != length) {
+                    throw new IllegalArgumentException("Shards must have the same length");
+                }
+                length = shards[i].length;
+            }
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("No shards provided");
+        }
+        return length;
+    }
+
+    private void checkShard(int shard) {
+        if (shard < 0 || shard >= getTotalShards()) {
+            throw new IllegalArgumentException("Bad shard index");
+        }
+    }
+}
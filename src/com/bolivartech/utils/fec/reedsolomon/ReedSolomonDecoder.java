@@ -23,6 +23,10 @@ import com.valhala.utils.exception.UtilsException;
  */
 public final class ReedSolomonDecoder {
 
+    /**
+     * Estado de un bloque que no pudo ser corregido en {@link #decodeBatch}
+     */
+    public static final int UNCORRECTABLE = -1;
     private final GenericGF field;
 
     /**
@@ -47,14 +51,11 @@ public final class ReedSolomonDecoder {
         byte[] Output;
         int[] received;
         int i;
-        int position;
         GenericGFPoly poly;
         int[] syndromeCoefficients;
         boolean dataMatrix;
         boolean noError;
         int eval;
-        int[] errorLocations;
-        int[] errorMagnitudes;
 
         received = new int[Input.length];
         for (i = 0; i < received.length; i++) {
@@ -77,6 +78,114 @@ public final class ReedSolomonDecoder {
             ArrayUtils.arrayCopy(Input, 0, Output, 0, Input.length);
             return Output;
         }
+        correct(received, syndromeCoefficients, ErrorCorrectionBytes, dataMatrix);
+        Output = Converter.int2byte(received);
+        for (i = 0; i < (Output.length / 4); i++) {
+            Output[i] = Output[3 + (i * 4)];
+        }
+        Output = (byte[]) ArrayUtils.resizeArray(Output, Output.length / 4);
+        return Output;
+    }
+
+    /**
+     * <p>Decodifica en el sitio Count bloques contiguos del arreglo y corrige
+     * los errores. El bloque q empieza en Offset + q * Stride y tiene
+     * CodewordBytes bytes (datos y correccion de errores). Los sindromes se
+     * calculan en orden transpuesto, con el ciclo interno recorriendo muchos
+     * bloques a la vez, y solo los bloques con errores pasan por el algoritmo
+     * de Euclides.</p>
+     *
+     * @param Buffer               Arreglo con los bloques
+     * @param Offset               Posicion del primer bloque
+     * @param Stride               Distancia entre el inicio de bloques consecutivos
+     * @param Count                Numero de bloques
+     * @param CodewordBytes        Numero de bytes por bloque
+     * @param ErrorCorrectionBytes Numero de bytes de correcion en el bloque
+     * @return Estado de cada bloque: numero de simbolos corregidos, o
+     * {@link #UNCORRECTABLE} si el bloque no pudo ser corregido (y quedo sin
+     * cambios)
+     */
+    public int[] decodeBatch(byte[] Buffer, int Offset, int Stride, int Count, int CodewordBytes, int ErrorCorrectionBytes) {
+        int[][] syndromes;
+        int[] status;
+        int[] received;
+        int[] syndromeCoefficients;
+        boolean dataMatrix;
+        boolean noError;
+        int modulus, tile, base, lanes, i, j, q, start, value, root, logSum;
+
+        if (ErrorCorrectionBytes <= 0 || ErrorCorrectionBytes >= CodewordBytes) {
+            throw new IllegalArgumentException("Bad number of error correction bytes");
+        }
+        ReedSolomonEncoder.checkBatch(Buffer, Offset, Stride, Count, CodewordBytes);
+        status = new int[Count];
+        dataMatrix = field.equals(GenericGF.DATA_MATRIX_FIELD_256);
+        modulus = field.getSize() - 1;
+        tile = Math.min(Count, ReedSolomonEncoder.BATCH_TILE);
+        syndromes = new int[ErrorCorrectionBytes][tile];
+        received = new int[CodewordBytes];
+        for (base = 0; base < Count; base += tile) {
+            lanes = Math.min(tile, Count - base);
+            for (j = 0; j < ErrorCorrectionBytes; j++) {
+                for (q = 0; q < lanes; q++) {
+                    syndromes[j][q] = 0;
+                }
+            }
+            // Horner evaluation at 2^root for every lane: S = S * 2^root + r_i
+            for (i = 0; i < CodewordBytes; i++) {
+                start = Offset + base * Stride + i;
+                for (j = 0; j < ErrorCorrectionBytes; j++) {
+                    root = dataMatrix ? j + 1 : j;
+                    for (q = 0; q < lanes; q++) {
+                        value = syndromes[j][q];
+                        if (value != 0) {
+                            logSum = field.log(value) + root;
+                            value = field.exp(logSum >= modulus ? logSum - modulus : logSum);
+                        }
+                        syndromes[j][q] = value ^ (Buffer[start + q * Stride] & 0x000000FF);
+                    }
+                }
+            }
+            for (q = 0; q < lanes; q++) {
+                noError = true;
+                for (j = 0; j < ErrorCorrectionBytes && noError; j++) {
+                    noError = syndromes[j][q] == 0;
+                }
+                if (noError) {
+                    continue;
+                }
+                start = Offset + (base + q) * Stride;
+                for (i = 0; i < CodewordBytes; i++) {
+                    received[i] = Buffer[start + i] & 0x000000FF;
+                }
+                syndromeCoefficients = new int[ErrorCorrectionBytes];
+                for (j = 0; j < ErrorCorrectionBytes; j++) {
+                    syndromeCoefficients[ErrorCorrectionBytes - 1 - j] = syndromes[j][q];
+                }
+                try {
+                    status[base + q] = correct(received, syndromeCoefficients, ErrorCorrectionBytes, dataMatrix);
+                    for (i = 0; i < CodewordBytes; i++) {
+                        Buffer[start + i] = (byte) received[i];
+                    }
+                } catch (UtilsException e) {
+                    status[base + q] = UNCORRECTABLE;
+                }
+            }
+        }
+        return status;
+    }
+
+    /*
+     * Corrige en el sitio los errores del bloque recibido a partir de sus
+     * sindromes y retorna el numero de simbolos corregidos
+     */
+    private int correct(int[] received, int[] syndromeCoefficients, int ErrorCorrectionBytes, boolean dataMatrix)
+            throws UtilsException {
+        int[] errorLocations;
+        int[] errorMagnitudes;
+        int position;
+        int i;
+
         GenericGFPoly syndrome = new GenericGFPoly(field, syndromeCoefficients);
         GenericGFPoly[] sigmaOmega =
                 runEuclideanAlgorithm(field.buildMonomial(ErrorCorrectionBytes, 1), syndrome, ErrorCorrectionBytes);
@@ -84,19 +193,17 @@ public final class ReedSolomonDecoder {
         GenericGFPoly omega = sigmaOmega[1];
         errorLocations = findErrorLocations(sigma);
         errorMagnitudes = findErrorMagnitudes(omega, errorLocations, dataMatrix);
+        // Check every location before changing the block, so a failure leaves it untouched
         for (i = 0; i < errorLocations.length; i++) {
-            position = received.length - 1 - field.log(errorLocations[i]);
-            if (position < 0) {
+            if (received.length - 1 - field.log(errorLocations[i]) < 0) {
                 throw new UtilsException("Bad error location");
             }
-            received[position] = GenericGF.addOrSubtract(received[position], errorMagnitudes[i]);
         }
-        Output = Converter.int2byte(received);
-        for (i = 0; i < (Output.length / 4); i++) {
-            Output[i] = Output[3 + (i * 4)];
+        for (i = 0; i < errorLocations.length; i++) {
+            position = received.length - 1 - field.log(errorLocations[i]);
+            received[position] = GenericGF.addOrSubtract(received[position], errorMagnitudes[i]);
         }
-        Output = (byte[]) ArrayUtils.resizeArray(Output, Output.length / 4);
-        return Output;
+        return errorLocations.length;
     }
 
     /*
@@ -25,6 +25,10 @@ import java.util.List;
  */
 public final class ReedSolomonEncoder {
 
+    /*
+     * Numero de bloques procesados juntos en los metodos por lotes
+     */
+    static final int BATCH_TILE = 256;
     private final GenericGF field;
     private final List<GenericGFPoly> cachedGenerators;
 
@@ -90,6 +94,92 @@ public final class ReedSolomonEncoder {
         return Output;
     }
 
+    /**
+     * Codifica en el sitio Count bloques contiguos del arreglo. El bloque q
+     * empieza en Offset + q * Stride y tiene DataBytes bytes de datos seguidos
+     * de ErrorCorrectionBytes bytes donde se escribe la correccion de errores.
+     * El resultado es identico a {@link #encode(byte[], int)} sobre cada bloque,
+     * pero la validacion y el generador se preparan una sola vez y el ciclo
+     * interno recorre muchos bloques a la vez (orden transpuesto).
+     *
+     * @param Buffer               Arreglo con los bloques
+     * @param Offset               Posicion del primer bloque
+     * @param Stride               Distancia entre el inicio de bloques consecutivos
+     * @param Count                Numero de bloques
+     * @param DataBytes            Numero de bytes de datos por bloque
+     * @param ErrorCorrectionBytes Numero de Bytes para la correccion de errores
+     */
+    public void encodeBatch(byte[] Buffer, int Offset, int Stride, int Count, int DataBytes, int ErrorCorrectionBytes) {
+        int[][] remainder;
+        int[] logFeedback;
+        int[] logGenerator;
+        int[] coefficients;
+        int modulus, tile, base, lanes, t, i, j, q, start, value, logSum;
+
+        if (ErrorCorrectionBytes <= 0) {
+            throw new IllegalArgumentException("No error correction bytes");
+        }
+        if (DataBytes <= 0) {
+            throw new IllegalArgumentException("No data bytes provided");
+        }
+        checkBatch(Buffer, Offset, Stride, Count, DataBytes + ErrorCorrectionBytes);
+        t = ErrorCorrectionBytes;
+        modulus = field.getSize() - 1;
+        // logGenerator[j] = log of the coefficient of x^(t - j), or -1 when it is zero
+        coefficients = buildGenerator(t).getCoefficients();
+        logGenerator = new int[t + 1];
+        for (j = 1; j <= t; j++) {
+            logGenerator[j] = coefficients[j] == 0 ? -1 : field.log(coefficients[j]);
+        }
+        tile = Math.min(Count, BATCH_TILE);
+        remainder = new int[t][tile];
+        logFeedback = new int[tile];
+        for (base = 0; base < Count; base += tile) {
+            lanes = Math.min(tile, Count - base);
+            for (j = 0; j < t; j++) {
+                for (q = 0; q < lanes; q++) {
+                    remainder[j][q] = 0;
+                }
+            }
+            // Division by the generator as a shift register, one data symbol for all the lanes at a time
+            for (i = 0; i < DataBytes; i++) {
+                start = Offset + base * Stride + i;
+                for (q = 0; q < lanes; q++) {
+                    value = (Buffer[start + q * Stride] & 0x000000FF) ^ remainder[0][q];
+                    logFeedback[q] = value == 0 ? -1 : field.log(value);
+                }
+                for (j = 0; j < t; j++) {
+                    for (q = 0; q < lanes; q++) {
+                        value = j + 1 < t ? remainder[j + 1][q] : 0;
+                        if (logFeedback[q] >= 0 && logGenerator[j + 1] >= 0) {
+                            logSum = logFeedback[q] + logGenerator[j + 1];
+                            value ^= field.exp(logSum >= modulus ? logSum - modulus : logSum);
+                        }
+                        remainder[j][q] = value;
+                    }
+                }
+            }
+            for (j = 0; j < t; j++) {
+                start = Offset + base * Stride + DataBytes + j;
+                for (q = 0; q < lanes; q++) {
+                    Buffer[start + q * Stride] = (byte) remainder[j][q];
+                }
+            }
+        }
+    }
+
+    /**
+     * Valida la geometria de un lote de bloques contiguos
+     */
+    static void checkBatch(byte[] Buffer, int Offset, int Stride, int Count, int BlockBytes) {
+        if (Offset < 0 || Count < 0 || Stride < BlockBytes) {
+            throw new IllegalArgumentException("Bad batch layout");
+        }
+        if (Count > 0 && (long) Offset + (long) (Count - 1) * Stride + BlockBytes > Buffer.length) {
+            throw new IllegalArgumentException("Batch exceeds the buffer");
+        }
+    }
+
     /*
      * Generador de los polinominion del campo de Galois
      */
@@ -0,0 +1,476 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's packet-level sliding-window FEC
+ * decoding Class.<br/><br/>
+ * <p>
+ * Source datagrams are delivered as soon as they arrive. Every repair
+ * datagram is a linear equation over the missing source datagrams of its
+ * window; the equations are kept in reduced row echelon form (Gauss-Jordan
+ * over GF(256)), so a missing datagram is delivered as soon as any
+ * sufficient subset of source and repair datagrams has arrived, without
+ * waiting for the end of the window. Datagrams may therefore be delivered
+ * out of order.<br/><br/>
+ * <p>
+ * Sequence numbers are compared with serial number arithmetic, so they may
+ * wrap around. Datagrams older than the history (4 windows) are discarded
+ * as late duplicates, but a jump backwards of more than two histories is
+ * taken as a restart of the sender and resets the decoder.<br/><br/>
+ * <p>
+ * Esta clase implementa la recuperacion de datagramas perdidos con
+ * paquetes de reparacion por ventana deslizante.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class SlidingWindowDecoder {
+
+    private final GenericGF field;
+    private final int history;
+    private final Map<Integer, byte[]> known;
+    private final List<Equation> equations;
+    private int highest = 0;
+    private boolean started = false;
+    private long recovered = 0;
+
+    /**
+     * Constructor con inicializacion del campo de Galois y de la ventana
+     *
+     * @param GField     Campo de Galois (GF(256)), el mismo del codificador
+     * @param WindowSize Tamaño de la ventana del codificador
+     */
+    public SlidingWindowDecoder(GenericGF GField, int WindowSize) {
+        if (GField.getSize() != 256) {
+            throw new IllegalArgumentException("Only GF(256) fields are supported");
+        }
+        if (WindowSize <= 0) {
+            throw new IllegalArgumentException("Bad window size");
+        }
+        this.field = GField;
+        this.history = 4 * WindowSize;
+        this.known = new HashMap<Integer, byte[]>();
+        this.equations = new ArrayList<Equation>();
+    }
+
+    /**
+     * Procesa un datagrama recibido y retorna los datagramas fuente que quedan
+     * disponibles con el: el propio datagrama fuente y los recuperados.
+     * Los datagramas mal formados son descartados.
+     *
+     * @param Packet Datagrama recibido (se consume desde su posicion)
+     * @return Datagramas fuente nuevos, posiblemente fuera de orden
+     */
+    public List<byte[]> decode(ByteBuffer Packet) {
+        List<byte[]> delivered;
+        Equation equation;
+        byte[] data;
+        int type, first, count, repairSequence, sequence, length, i;
+
+        delivered = new ArrayList<byte[]>();
+        if (Packet.remaining() < SlidingWindowEncoder.SOURCE_HEADER) {
+            return delivered;
+        }
+        type = Packet.get();
+        first = Packet.getInt();
+        if (type == SlidingWindowEncoder.SOURCE) {
+            length = Packet.remaining();
+            data = new byte[SlidingWindowEncoder.LENGTH_PREFIX + length];
+            data[0] = (byte) (length >>> 8);
+            data[1] = (byte) length;
+            Packet.get(data, SlidingWindowEncoder.LENGTH_PREFIX, length);
+            addSource(first, data, delivered);
+        } else if (type == SlidingWindowEncoder.REPAIR
+                && Packet.remaining() >= SlidingWindowEncoder.REPAIR_HEADER - SlidingWindowEncoder.SOURCE_HEADER) {
+            count = Packet.getShort() & 0x0000FFFF;
+            repairSequence = Packet.getInt();
+            if (count == 0) {
+                return delivered;
+            }
+            restart(first + count - 1);
+            equation = new Equation(count);
+            for (i = 0; i < count; i++) {
+                sequence = first + i;
+                if (!known.containsKey(sequence)) {
+                    if (age(sequence) >= history) {
+                        // Too old to be recovered, the equation is useless
+                        return delivered;
+                    }
+                    equation.put(sequence, SlidingWindowEncoder.coefficient(repairSequence, sequence));
+                }
+            }
+            // Nothing was lost: skip the subtraction of the whole window
+            if (equation.size == 0) {
+                return delivered;
+            }
+            equation.data = new byte[Packet.remaining()];
+            Packet.get(equation.data);
+            for (i = 0; i < count; i++) {
+                sequence = first + i;
+                data = known.get(sequence);
+                if (data != null) {
+                    SlidingWindowEncoder.multiplyAdd(field, equation.data, data,
+                            SlidingWindowEncoder.coefficient(repairSequence, sequence));
+                }
+            }
+            addEquation(equation, delivered);
+        }
+        return delivered;
+    }
+
+    /**
+     * Retorna el numero de datagramas fuente recuperados
+     *
+     * @return Datagramas recuperados
+     */
+    public long getRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Retorna el numero de ecuaciones de reparacion pendientes
+     *
+     * @return Ecuaciones pendientes
+     */
+    public int getPending() {
+        return equations.size();
+    }
+
+    /*
+     * Registra un datagrama fuente y entrega los datagramas que queden
+     * resueltos
+     */
+    private void addSource(int sequence, byte[] data, List<byte[]> delivered) {
+        restart(sequence);
+        if (learn(sequence, data, delivered)) {
+            drain(delivered);
+        }
+    }
+
+    /*
+     * Agrega una ecuacion de reparacion y entrega los datagramas que queden
+     * resueltos. Solo la ecuacion nueva se reduce contra las filas
+     * existentes, que ya estan en forma escalonada reducida (Gauss-Jordan)
+     */
+    private void addEquation(Equation equation, List<byte[]> delivered) {
+        Equation other;
+        int coefficient, i;
+
+        // Existing rows are reduced, so their pivots only appear in themselves
+        for (i = 0; i < equations.size(); i++) {
+            other = equations.get(i);
+            coefficient = equation.get(other.pivot);
+            if (coefficient != 0) {
+                addScaled(equation, other, coefficient);
+            }
+        }
+        if (equation.size == 0) {
+            return;
+        }
+        equations.add(equation);
+        pivot(equation);
+        drain(delivered);
+    }
+
+    /*
+     * Registra un datagrama fuente y lo elimina de las ecuaciones, sin
+     * resolver las que queden con una sola incognita
+     */
+    private boolean learn(int sequence, byte[] data, List<byte[]> delivered) {
+        Equation equation;
+        int coefficient, i;
+
+        if (known.containsKey(sequence) || age(sequence) >= history) {
+            return false;
+        }
+        known.put(sequence, data);
+        delivered.add(payload(data));
+        if (age(sequence) < 0) {
+            highest = sequence;
+            prune();
+        }
+        i = 0;
+        while (i < equations.size()) {
+            equation = equations.get(i);
+            coefficient = equation.remove(sequence);
+            if (coefficient != 0) {
+                equation.data = grow(equation.data, data.length);
+                SlidingWindowEncoder.multiplyAdd(field, equation.data, data, coefficient);
+                if (equation.size == 0) {
+                    equations.remove(i);
+                    continue;
+                }
+                if (equation.pivot == sequence) {
+                    pivot(equation);
+                }
+            }
+            i++;
+        }
+        return true;
+    }
+
+    /*
+     * Elige la primera incognita de la fila como pivote, la normaliza y la
+     * elimina de las demas filas
+     */
+    private void pivot(Equation equation) {
+        Equation other;
+        int coefficient, scale, i;
+
+        equation.pivot = equation.columns[0];
+        scale = field.inverse(equation.coefficients[0]);
+        for (i = 0; i < equation.size; i++) {
+            equation.coefficients[i] = field.multiply(equation.coefficients[i], scale);
+        }
+        multiply(equation.data, scale);
+        for (i = 0; i < equations.size(); i++) {
+            other = equations.get(i);
+            if (other != equation) {
+                coefficient = other.get(equation.pivot);
+                if (coefficient != 0) {
+                    addScaled(other, equation, coefficient);
+                }
+            }
+        }
+    }
+
+    /*
+     * Recupera los datagramas de las filas con una sola incognita (su
+     * pivote, con coeficiente 1) hasta que no quede ninguna
+     */
+    private void drain(List<byte[]> delivered) {
+        Equation equation;
+        boolean solved;
+        int i;
+
+        do {
+            solved = false;
+            for (i = 0; i < equations.size() && !solved; i++) {
+                equation = equations.get(i);
+                if (equation.size == 1) {
+                    equations.remove(i);
+                    solve(equation.pivot, equation.data, delivered);
+                    solved = true;
+                }
+            }
+        } while (solved);
+    }
+
+    /*
+     * Entrega el datagrama recuperado, validando el prefijo de longitud
+     */
+    private void solve(int sequence, byte[] data, List<byte[]> delivered) {
+        byte[] trimmed;
+        int length;
+
+        if (data.length < SlidingWindowEncoder.LENGTH_PREFIX) {
+            return;
+        }
+        length = ((data[0] & 0x000000FF) << 8) | (data[1] & 0x000000FF);
+        if (length > data.length - SlidingWindowEncoder.LENGTH_PREFIX) {
+            return;
+        }
+        trimmed = new byte[SlidingWindowEncoder.LENGTH_PREFIX + length];
+        System.arraycopy(data, 0, trimmed, 0, trimmed.length);
+        if (learn(sequence, trimmed, delivered)) {
+            recovered++;
+        }
+    }
+
+    /*
+     * target += source * coefficient, mezclando las incognitas ordenadas de
+     * ambas filas
+     */
+    private void addScaled(Equation target, Equation source, int coefficient) {
+        int[] columns;
+        int[] coefficients;
+        int size, value, t, q;
+
+        columns = new int[target.size + source.size];
+        coefficients = new int[columns.length];
+        size = 0;
+        t = 0;
+        q = 0;
+        while (t < target.size || q < source.size) {
+            if (q == source.size || (t < target.size && target.columns[t] < source.columns[q])) {
+                columns[size] = target.columns[t];
+                coefficients[size++] = target.coefficients[t++];
+            } else {
+                value = field.multiply(source.coefficients[q], coefficient);
+                if (t < target.size && target.columns[t] == source.columns[q]) {
+                    value = GenericGF.addOrSubtract(value, target.coefficients[t++]);
+                }
+                if (value != 0) {
+                    columns[size] = source.columns[q];
+                    coefficients[size++] = value;
+                }
+                q++;
+            }
+        }
+        target.columns = columns;
+        target.coefficients = coefficients;
+        target.size = size;
+        target.data = grow(target.data, source.data.length);
+        SlidingWindowEncoder.multiplyAdd(field, target.data, source.data, coefficient);
+    }
+
+    /*
+     * data = data * coefficient
+     */
+    private void multiply(byte[] data, int coefficient) {
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) field.multiply(data[i] & 0x000000FF, coefficient);
+        }
+    }
+
+    /*
+     * Antiguedad de la secuencia respecto a la mas alta recibida, con
+     * aritmetica de numeros de serie (negativa si la secuencia es nueva)
+     */
+    private int age(int sequence) {
+        return highest - sequence;
+    }
+
+    /*
+     * Reinicia el estado si la secuencia retrocede mas de dos historiales
+     * (reinicio del emisor); la primera secuencia fija la referencia
+     */
+    private void restart(int sequence) {
+        if (started && age(sequence) > 2 * history) {
+            known.clear();
+            equations.clear();
+            started = false;
+        }
+        if (!started) {
+            highest = sequence;
+            started = true;
+        }
+    }
+
+    /*
+     * Descarta los datagramas y ecuaciones fuera del historial
+     */
+    private void prune() {
+        Iterator<Integer> sequences;
+        Iterator<Equation> pending;
+
+        sequences = known.keySet().iterator();
+        while (sequences.hasNext()) {
+            if (age(sequences.next()) >= history) {
+                sequences.remove();
+            }
+        }
+        pending = equations.iterator();
+        while (pending.hasNext()) {
+            if (stale(pending.next())) {
+                pending.remove();
+            }
+        }
+    }
+
+    /*
+     * Una ecuacion es inutil si alguna de sus incognitas salio del historial
+     */
+    private boolean stale(Equation equation) {
+        for (int i = 0; i < equation.size; i++) {
+            if (age(equation.columns[i]) >= history) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Copia del arreglo con al menos length bytes
+     */
+    private static byte[] grow(byte[] data, int length) {
+        byte[] result;
+
+        if (data.length >= length) {
+            return data;
+        }
+        result = new byte[length];
+        System.arraycopy(data, 0, result, 0, data.length);
+        return result;
+    }
+
+    /*
+     * Datagrama original sin el prefijo de longitud
+     */
+    private static byte[] payload(byte[] data) {
+        byte[] result = new byte[data.length - SlidingWindowEncoder.LENGTH_PREFIX];
+        System.arraycopy(data, SlidingWindowEncoder.LENGTH_PREFIX, result, 0, result.length);
+        return result;
+    }
+
+    /*
+     * Ecuacion de reparacion: sum(coefficients[i] * source[columns[i]]) = data,
+     * con las incognitas ordenadas por numero de secuencia
+     */
+    private static final class Equation {
+
+        private int[] columns;
+        private int[] coefficients;
+        private int size;
+        private byte[] data;
+        private int pivot;
+
+        Equation(int capacity) {
+            this.columns = new int[capacity];
+            this.coefficients = new int[capacity];
+        }
+
+        /*
+         * Coeficiente de la incognita, 0 si no aparece
+         */
+        int get(int column) {
+            int index = Arrays.binarySearch(columns, 0, size, column);
+            return index < 0 ? 0 : coefficients[index];
+        }
+
+        /*
+         * Agrega una incognita nueva manteniendo el orden
+         */
+        void put(int column, int coefficient) {
+            int index = -Arrays.binarySearch(columns, 0, size, column) - 1;
+            System.arraycopy(columns, index, columns, index + 1, size - index);
+            System.arraycopy(coefficients, index, coefficients, index + 1, size - index);
+            columns[index] = column;
+            coefficients[index] = coefficient;
+            size++;
+        }
+
+        /*
+         * Elimina la incognita y retorna su coeficiente, 0 si no aparece
+         */
+        int remove(int column) {
+            int index, coefficient;
+
+            index = Arrays.binarySearch(columns, 0, size, column);
+            if (index < 0) {
+                return 0;
+            }
+            coefficient = coefficients[index];
+            size--;
+            System.arraycopy(columns, index + 1, columns, index, size - index);
+            System.arraycopy(coefficients, index + 1, coefficients, index, size - index);
+            return coefficient;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's packet-level sliding-window FEC
+ * Encoding Class.<br/><br/>
+ * <p>
+ * Every source datagram is sent as is with a small header, and every
+ * {@code RepairInterval} source datagrams {@code RepairCount} repair
+ * datagrams are generated as random linear combinations over GF(256) of
+ * the last {@code WindowSize} source datagrams. Before the combination each
+ * source is prefixed with its length (2 bytes) and padded with zeros to
+ * the longest source of the window, so the receiver recovers the original
+ * length too. Sequence numbers wrap around after 2^32 datagrams and are
+ * compared with serial number arithmetic.<br/><br/>
+ * <p>
+ * Packet layout (big endian):<br/>
+ * source: type (1) | sequence (4) | payload<br/>
+ * repair: type (1) | first sequence (4) | count (2) | repair sequence (4) | combination<br/><br/>
+ * <p>
+ * Esta clase implementa la generacion de paquetes de reparacion por ventana
+ * deslizante para flujos de datagramas.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class SlidingWindowEncoder {
+
+    static final byte SOURCE = 0;
+    static final byte REPAIR = 1;
+    static final int SOURCE_HEADER = 5;
+    static final int REPAIR_HEADER = 11;
+    static final int LENGTH_PREFIX = 2;
+
+    private final GenericGF field;
+    private final int windowSize;
+    private final int repairInterval;
+    private final int repairCount;
+    private final int maxPayload;
+    private final byte[][] window;
+    private int nextSequence = 0;
+    private int nextRepairSequence = 0;
+    private int sinceRepair = 0;
+    private int filled = 0;
+
+    /**
+     * Constructor con inicializacion del campo de Galois y de la ventana
+     *
+     * @param GField         Campo de Galois (GF(256))
+     * @param WindowSize     Numero de datagramas fuente cubiertos por cada reparacion
+     * @param RepairInterval Numero de datagramas fuente entre reparaciones
+     * @param RepairCount    Numero de datagramas de reparacion por intervalo
+     * @param MaxPayload     Tamaño maximo de un datagrama fuente
+     */
+    public SlidingWindowEncoder(GenericGF GField, int WindowSize, int RepairInterval, int RepairCount, int MaxPayload) {
+        if (GField.getSize() != 256) {
+            throw new IllegalArgumentException("Only GF(256) fields are supported");
+        }
+        if (WindowSize <= 0 || WindowSize > 0xFFFF || RepairInterval <= 0 || RepairCount < 0) {
+            throw new IllegalArgumentException("Bad window dimensions");
+        }
+        if (MaxPayload <= 0 || MaxPayload > 0xFFFF) {
+            throw new IllegalArgumentException("Bad maximum payload");
+        }
+        this.field = GField;
+        this.windowSize = WindowSize;
+        this.repairInterval = RepairInterval;
+        this.repairCount = RepairCount;
+        this.maxPayload = MaxPayload;
+        this.window = new byte[WindowSize][];
+    }
+
+    /**
+     * Retorna el tamaño de los buffers del deposito: el datagrama mas largo
+     * generado mas un byte, para que la recepcion distinga un datagrama
+     * completo de uno truncado por el buffer
+     *
+     * @return Tamaño de buffer en bytes
+     */
+    public int getPacketSize() {
+        return REPAIR_HEADER + LENGTH_PREFIX + maxPayload + 1;
+    }
+
+    /**
+     * Codifica un datagrama fuente. Retorna el datagrama fuente seguido de los
+     * datagramas de reparacion que correspondan; los buffers son del deposito
+     * y deben ser devueltos despues de enviarlos.
+     *
+     * @param Payload Datagrama fuente (se consume desde su posicion)
+     * @param Pool    Deposito de buffers directos
+     * @return Datagramas a enviar, listos para lectura
+     */
+    public List<ByteBuffer> encode(ByteBuffer Payload, DirectBufferPool Pool) {
+        List<ByteBuffer> packets;
+        ByteBuffer packet;
+        byte[] data;
+        int length, covered, i;
+
+        length = Payload.remaining();
+        if (length > maxPayload) {
+            throw new IllegalArgumentException("Payload exceeds the maximum size");
+        }
+        if (Pool.getBufferSize() < getPacketSize()) {
+            throw new IllegalArgumentException("Pool buffers are too small");
+        }
+        data = new byte[LENGTH_PREFIX + length];
+        data[0] = (byte) (length >>> 8);
+        data[1] = (byte) length;
+        Payload.get(data, LENGTH_PREFIX, length);
+        window[slot(nextSequence)] = data;
+        packets = new ArrayList<ByteBuffer>(1 + repairCount);
+        packet = Pool.acquire();
+        packet.put(SOURCE).putInt(nextSequence).put(data, LENGTH_PREFIX, length);
+        packet.flip();
+        packets.add(packet);
+        nextSequence++;
+        filled = Math.min(windowSize, filled + 1);
+        sinceRepair++;
+        if (sinceRepair == repairInterval) {
+            sinceRepair = 0;
+            covered = filled;
+            for (i = 0; i < repairCount; i++) {
+                packets.add(repair(nextSequence - covered, covered, Pool));
+            }
+        }
+        return packets;
+    }
+
+    /*
+     * Genera un datagrama de reparacion sobre [first, first + count)
+     */
+    private ByteBuffer repair(int first, int count, DirectBufferPool Pool) {
+        ByteBuffer packet;
+        byte[] combination;
+        byte[] source;
+        int longest, i;
+
+        longest = 0;
+        for (i = 0; i < count; i++) {
+            longest = Math.max(longest, window[slot(first + i)].length);
+        }
+        combination = new byte[longest];
+        for (i = 0; i < count; i++) {
+            source = window[slot(first + i)];
+            multiplyAdd(field, combination, source, coefficient(nextRepairSequence, first + i));
+        }
+        packet = Pool.acquire();
+        packet.put(REPAIR).putInt(first).putShort((short) count).putInt(nextRepairSequence).put(combination);
+        packet.flip();
+        nextRepairSequence++;
+        return packet;
+    }
+
+    /*
+     * Posicion de la secuencia en la ventana, tambien para secuencias
+     * negativas despues de dar la vuelta
+     */
+    private int slot(int sequence) {
+        int slot = sequence % windowSize;
+        return slot < 0 ? slot + windowSize : slot;
+    }
+
+    /**
+     * Coeficiente (distinto de cero) del datagrama fuente en la reparacion,
+     * derivado de forma pseudo aleatoria de ambas secuencias
+     */
+    static int coefficient(int repairSequence, int sequence) {
+        int h;
+
+        h = repairSequence * 0x9E3779B1 ^ sequence * 0x85EBCA6B;
+        h ^= h >>> 16;
+        h *= 0x7FEB352D;
+        h ^= h >>> 15;
+        return 1 + (h >>> 1) % 255;
+    }
+
+    /**
+     * destination += source * coefficient en GF(256); source puede ser mas
+     * corto que destination. Multiplica con las tablas de logaritmos del
+     * campo, sin reservar memoria.
+     */
+    static void multiplyAdd(GenericGF field, byte[] destination, byte[] source, int coefficient) {
+        int logCoefficient, modulus, value, logSum, i;
+
+        if (coefficient == 0) {
+            return;
+        }
+        if (coefficient == 1) {
+            for (i = 0; i < source.length; i++) {
+                destination[i] ^= source[i];
+            }
+            return;
+        }
+        logCoefficient = field.log(coefficient);
+        modulus = field.getSize() - 1;
+        for (i = 0; i < source.length; i++) {
+            value = source[i] & 0x000000FF;
+            if (value != 0) {
+                logSum = field.log(value) + logCoefficient;
+                if (logSum >= modulus) {
+                    logSum -= modulus;
+                }
+                destination[i] ^= (byte) field.exp(logSum);
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.bolivartech.utils.fec.reedsolomon.stress;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's simulated channel error model
+ * Class.<br/><br/>
+ * <p>
+ * Esta clase implementa los modelos de error usados por el simulador de
+ * canal: errores aleatorios, rafagas, borraduras y el canal de
+ * Gilbert-Elliott.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public abstract class ChannelModel {
+
+    /**
+     * Corrompe el bloque recibido en el sitio
+     *
+     * @param Codeword   Bloque a ser corrompido
+     * @param Erased     Marca las posiciones borradas (solo canales de borraduras)
+     * @param SymbolMask Mascara de bits validos del simbolo (tamaño del campo - 1)
+     * @param Rnd        Generador de numeros aleatorios
+     * @return Numero de simbolos corrompidos o borrados
+     */
+    public abstract int corrupt(byte[] Codeword, boolean[] Erased, int SymbolMask, Random Rnd);
+
+    /**
+     * Retorna verdadero si las posiciones de los errores son conocidas por el
+     * receptor
+     *
+     * @return true si el canal produce borraduras
+     */
+    public boolean isErasureChannel() {
+        return false;
+    }
+
+    /**
+     * Crea el modelo de error a partir de las opciones del simulador
+     *
+     * @param Options Opciones del simulador
+     * @return Modelo de error
+     */
+    public static ChannelModel create(Map<String, String> Options) {
+        String name;
+
+        name = Options.get("model");
+        if ("random".equals(name)) {
+            return new RandomErrors(Double.parseDouble(Options.get("rate")));
+        }
+        if ("burst".equals(name)) {
+            return new BurstErrors(Double.parseDouble(Options.get("rate")), Integer.parseInt(Options.get("burst")));
+        }
+        if ("erasure".equals(name)) {
+            return new Erasures(Double.parseDouble(Options.get("rate")));
+        }
+        if ("gilbert".equals(name)) {
+            return new GilbertElliott(Double.parseDouble(Options.get("pgb")), Double.parseDouble(Options.get("pbg")),
+                    Double.parseDouble(Options.get("egood")), Double.parseDouble(Options.get("ebad")));
+        }
+        throw new IllegalArgumentException("Unknown channel model: " + name);
+    }
+
+    /*
+     * Altera el simbolo con un valor distinto de cero dentro del campo
+     */
+    static void flip(byte[] Codeword, int position, int SymbolMask, Random Rnd) {
+        Codeword[position] ^= (byte) (1 + Rnd.nextInt(SymbolMask));
+    }
+
+    /*
+     * Cada simbolo es alterado de forma independiente con probabilidad rate
+     */
+    static final class RandomErrors extends ChannelModel {
+
+        private final double rate;
+
+        RandomErrors(double rate) {
+            this.rate = rate;
+        }
+
+        @Override
+        public int corrupt(byte[] Codeword, boolean[] Erased, int SymbolMask, Random Rnd) {
+            int errors = 0;
+            for (int i = 0; i < Codeword.length; i++) {
+                if (Rnd.nextDouble() < rate) {
+                    flip(Codeword, i, SymbolMask, Rnd);
+                    errors++;
+                }
+            }
+            return errors;
+        }
+
+        @Override
+        public String toString() {
+            return "random(rate=" + rate + ")";
+        }
+    }
+
+    /*
+     * Con probabilidad rate por bloque, una rafaga de length simbolos
+     * consecutivos es alterada en una posicion aleatoria
+     */
+    static final class BurstErrors extends ChannelModel {
+
+        private final double rate;
+        private final int length;
+
+        BurstErrors(double rate, int length) {
+            this.rate = rate;
+            this.length = length;
+        }
+
+        @Override
+        public int corrupt(byte[] Codeword, boolean[] Erased, int SymbolMask, Random Rnd) {
+            int start, end, i;
+
+            if (Rnd.nextDouble() >= rate) {
+                return 0;
+            }
+            start = Rnd.nextInt(Codeword.length);
+            end = Math.min(Codeword.length, start + length);
+            for (i = start; i < end; i++) {
+                flip(Codeword, i, SymbolMask, Rnd);
+            }
+            return end - start;
+        }
+
+        @Override
+        public String toString() {
+            return "burst(rate=" + rate + ", length=" + length + ")";
+        }
+    }
+
+    /*
+     * Cada simbolo es borrado de forma independiente con probabilidad rate;
+     * el receptor conoce las posiciones borradas
+     */
+    static final class Erasures extends ChannelModel {
+
+        private final double rate;
+
+        Erasures(double rate) {
+            this.rate = rate;
+        }
+
+        @Override
+        public int corrupt(byte[] Codeword, boolean[] Erased, int SymbolMask, Random Rnd) {
+            int erasures = 0;
+            for (int i = 0; i < Codeword.length; i++) {
+                if (Rnd.nextDouble() < rate) {
+                    Codeword[i] = 0;
+                    Erased[i] = true;
+                    erasures++;
+                }
+            }
+            return erasures;
+        }
+
+        @Override
+        public boolean isErasureChannel() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "erasure(rate=" + rate + ")";
+        }
+    }
+
+    /*
+     * Canal de Gilbert-Elliott: cadena de Markov de dos estados (bueno y malo)
+     * con probabilidad de error por simbolo distinta en cada estado. El estado
+     * se mantiene entre bloques.
+     */
+    static final class GilbertElliott extends ChannelModel {
+
+        private final double goodToBad;
+        private final double badToGood;
+        private final double goodErrorRate;
+        private final double badErrorRate;
+        private boolean bad = false;
+
+        GilbertElliott(double goodToBad, double badToGood, double goodErrorRate, double badErrorRate) {
+            this.goodToBad = goodToBad;
+            this.badToGood = badToGood;
+            this.goodErrorRate = goodErrorRate;
+            this.badErrorRate = badErrorRate;
+        }
+
+        @Override
+        public int corrupt(byte[] Codeword, boolean[] Erased, int SymbolMask, Random Rnd) {
+            int errors = 0;
+            for (int i = 0; i < Codeword.length; i++) {
+                if (bad) {
+                    bad = Rnd.nextDouble() >= badToGood;
+                } else {
+                    bad = Rnd.nextDouble() < goodToBad;
+                }
+                if (Rnd.nextDouble() < (bad ? badErrorRate : goodErrorRate)) {
+                    flip(Codeword, i, SymbolMask, Rnd);
+                    errors++;
+                }
+            }
+            return errors;
+        }
+
+        @Override
+        public String toString() {
+            return "gilbert(pgb=" + goodToBad + ", pbg=" + badToGood
+                    + ", egood=" + goodErrorRate + ", ebad=" + badErrorRate + ")";
+        }
+    }
+}
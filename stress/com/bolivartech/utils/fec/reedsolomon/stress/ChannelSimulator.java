@@ -0,0 +1,304 @@
+package com.bolivartech.utils.fec.reedsolomon.stress;
+
+import com.bolivartech.utils.fec.reedsolomon.BitMatrixCodec;
+import com.bolivartech.utils.fec.reedsolomon.GenericGF;
+import com.bolivartech.utils.fec.reedsolomon.ReedSolomonDecoder;
+import com.bolivartech.utils.fec.reedsolomon.ReedSolomonEncoder;
+import com.valhala.utils.exception.UtilsException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's channel-simulation load harness
+ * Class.<br/><br/>
+ * <p>
+ * Drives {@link ReedSolomonEncoder} and {@link ReedSolomonDecoder} (and
+ * {@link BitMatrixCodec} for erasure channels) through a simulated channel
+ * for each field and parity size, and reports blocks per second, MB/s, the
+ * decode latency distribution and the uncorrectable and miscorrection
+ * rates. On erasure channels every block is decoded twice and reported on
+ * two lines: by {@link BitMatrixCodec} with the erased positions (its
+ * figures include building the XOR schedule of every new erasure pattern)
+ * and by {@link ReedSolomonDecoder} treating the erasures as errors at
+ * unknown positions; each line names the decoder measured. The
+ * {@code field} option takes a list, but {@link ReedSolomonEncoder} only
+ * supports {@code QR_CODE_FIELD_256} and the other fields are reported as
+ * skipped.
+ * Options are given as {@code key=value} arguments, run it with
+ * {@code ant stress -Dstress.args="duration=3600 model=gilbert"}.<br/><br/>
+ * <p>
+ * Esta clase implementa el simulador de canal para pruebas de carga y de
+ * capacidad de correccion.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class ChannelSimulator {
+
+    private static final double NANOS = 1e9;
+    private static final double MEGABYTE = 1024.0 * 1024.0;
+
+    private final Map<String, String> options;
+
+    /**
+     * Constructor con las opciones del simulador
+     *
+     * @param Options Opciones del simulador
+     */
+    public ChannelSimulator(Map<String, String> Options) {
+        this.options = Options;
+    }
+
+    /**
+     * Punto de entrada del simulador
+     *
+     * @param args Opciones de la forma clave=valor
+     */
+    public static void main(String[] args) {
+        new ChannelSimulator(StressOptions.parse(args, defaults())).run();
+    }
+
+    /*
+     * Opciones por defecto
+     */
+    private static Map<String, String> defaults() {
+        Map<String, String> Options = new HashMap<String, String>();
+        Options.put("field", "QR_CODE_FIELD_256");
+        Options.put("parity", "8,16,32");
+        Options.put("data", "223");
+        Options.put("model", "random");
+        Options.put("rate", "0.02");
+        Options.put("burst", "8");
+        Options.put("pgb", "0.001");
+        Options.put("pbg", "0.1");
+        Options.put("egood", "0.0001");
+        Options.put("ebad", "0.3");
+        Options.put("duration", "60");
+        Options.put("report", "10");
+        Options.put("seed", "1");
+        return Options;
+    }
+
+    /**
+     * Ejecuta la simulacion para cada campo y tamaño de paridad configurado
+     */
+    public void run() {
+        String[] fields;
+        String[] parities;
+        int i, j;
+
+        fields = options.get("field").split(",");
+        parities = options.get("parity").split(",");
+        System.out.println("Channel simulation " + options);
+        for (i = 0; i < fields.length; i++) {
+            for (j = 0; j < parities.length; j++) {
+                try {
+                    simulate(fields[i].trim(), Integer.parseInt(parities[j].trim()));
+                } catch (IllegalArgumentException e) {
+                    System.out.println(fields[i].trim() + " parity=" + parities[j].trim() + " skipped: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /*
+     * Simula un campo y un tamaño de paridad durante el tiempo configurado
+     */
+    private void simulate(String fieldName, int parity) {
+        GenericGF field;
+        ChannelModel model;
+        ReedSolomonEncoder encoder;
+        ReedSolomonDecoder decoder;
+        BitMatrixCodec erasureCodec;
+        Random rnd;
+        Stats stats;
+        Stats erasureStats;
+        byte[] data;
+        byte[] codeword;
+        byte[] received;
+        boolean[] erased;
+        int dataBytes, mask, corrupted, i;
+        long deadline, nextReport, reportNanos, start, t0, t1;
+
+        field = StressOptions.resolveField(fieldName);
+        mask = field.getSize() - 1;
+        dataBytes = Math.min(Integer.parseInt(options.get("data")), mask - parity);
+        if (dataBytes <= 0 || parity <= 0) {
+            throw new IllegalArgumentException("Block does not fit in the field");
+        }
+        model = ChannelModel.create(options);
+        encoder = new ReedSolomonEncoder(field);
+        decoder = new ReedSolomonDecoder(field);
+        erasureCodec = model.isErasureChannel() ? new BitMatrixCodec(field, dataBytes, parity) : null;
+        rnd = new Random(Long.parseLong(options.get("seed")));
+        stats = new Stats(fieldName, parity, dataBytes, model, false);
+        erasureStats = erasureCodec != null ? new Stats(fieldName, parity, dataBytes, model, true) : null;
+        data = new byte[dataBytes];
+        erased = new boolean[dataBytes + parity];
+        reportNanos = (long) (Double.parseDouble(options.get("report")) * NANOS);
+        start = System.nanoTime();
+        deadline = start + (long) (Double.parseDouble(options.get("duration")) * NANOS);
+        nextReport = start + reportNanos;
+        while (System.nanoTime() < deadline) {
+            rnd.nextBytes(data);
+            for (i = 0; i < dataBytes; i++) {
+                data[i] &= (byte) mask;
+            }
+            t0 = System.nanoTime();
+            codeword = encoder.encode(data, parity);
+            t1 = System.nanoTime();
+            received = codeword.clone();
+            Arrays.fill(erased, false);
+            corrupted = model.corrupt(received, erased, mask, rnd);
+            if (erasureStats != null) {
+                decode(erasureStats, decoder, erasureCodec, received, codeword, positions(erased, corrupted),
+                        corrupted, t1 - t0);
+            }
+            decode(stats, decoder, erasureCodec, received, codeword, null, corrupted, t1 - t0);
+            if (reportNanos > 0 && System.nanoTime() >= nextReport) {
+                if (erasureStats != null) {
+                    System.out.println("  " + erasureStats.summary(System.nanoTime() - start));
+                }
+                System.out.println("  " + stats.summary(System.nanoTime() - start));
+                nextReport += reportNanos;
+            }
+        }
+        if (erasureStats != null) {
+            System.out.println(erasureStats.summary(System.nanoTime() - start));
+            System.out.println("    " + erasureStats.latencies());
+        }
+        System.out.println(stats.summary(System.nanoTime() - start));
+        System.out.println("    " + stats.latencies());
+    }
+
+    /*
+     * Decodifica un bloque recibido, con las posiciones borradas si se dan
+     * o como errores en posiciones desconocidas si no, y lo registra en las
+     * estadisticas
+     */
+    private static void decode(Stats stats, ReedSolomonDecoder decoder, BitMatrixCodec erasureCodec,
+                               byte[] received, byte[] codeword, int[] erasures, int corrupted, long encodeNanos) {
+        byte[] decoded;
+        long t0, t1;
+
+        if (erasures != null ? corrupted > stats.parity : 2 * corrupted > stats.parity) {
+            stats.overCapacity++;
+        }
+        t0 = System.nanoTime();
+        try {
+            if (erasures != null) {
+                decoded = erasureCodec.decode(received, erasures);
+            } else {
+                decoded = decoder.decode(received, stats.parity);
+            }
+            if (Arrays.equals(decoded, codeword)) {
+                if (corrupted > 0) {
+                    stats.corrected++;
+                }
+            } else {
+                stats.miscorrected++;
+            }
+        } catch (UtilsException e) {
+            stats.uncorrectable++;
+        } catch (RuntimeException e) {
+            stats.faults++;
+        }
+        t1 = System.nanoTime() - t0;
+        stats.decodeLatency.record(t1);
+        stats.decodeNanos += t1;
+        stats.encodeNanos += encodeNanos;
+        stats.blocks++;
+        stats.symbolErrors += corrupted;
+    }
+
+    /*
+     * Posiciones borradas del bloque
+     */
+    private static int[] positions(boolean[] erased, int count) {
+        int[] result = new int[count];
+        int j = 0;
+        for (int i = 0; i < erased.length; i++) {
+            if (erased[i]) {
+                result[j++] = i;
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Estadisticas de una simulacion
+     */
+    private static final class Stats {
+
+        private final String field;
+        private final int parity;
+        private final int dataBytes;
+        private final ChannelModel model;
+        private final String decoder;
+        private final LatencyHistogram decodeLatency = new LatencyHistogram();
+        private long blocks = 0;
+        private long symbolErrors = 0;
+        private long corrected = 0;
+        private long uncorrectable = 0;
+        private long miscorrected = 0;
+        private long faults = 0;
+        private long overCapacity = 0;
+        private long encodeNanos = 0;
+        private long decodeNanos = 0;
+
+        Stats(String field, int parity, int dataBytes, ChannelModel model, boolean Erasures) {
+            this.field = field;
+            this.parity = parity;
+            this.dataBytes = dataBytes;
+            this.model = model;
+            if (Erasures) {
+                this.decoder = "BitMatrixCodec erasures";
+            } else if (model.isErasureChannel()) {
+                this.decoder = "ReedSolomonDecoder, erasures as errors";
+            } else {
+                this.decoder = "ReedSolomonDecoder";
+            }
+        }
+
+        String summary(long elapsedNanos) {
+            double seconds, megabytes;
+
+            seconds = elapsedNanos / NANOS;
+            megabytes = blocks * (double) dataBytes / MEGABYTE;
+            return String.format(Locale.ROOT,
+                    "%s parity=%d data=%d %s: blocks=%d (%.0f blocks/s, %.2f MB/s) encode=%.2f MB/s decode=%.2f MB/s [%s]"
+                            + " symbolErrors=%d corrected=%d overCapacity=%d uncorrectable=%d (%.3e) miscorrected=%d (%.3e) faults=%d",
+                    field, parity, dataBytes, model, blocks, blocks / seconds, megabytes / seconds,
+                    encodeNanos == 0 ? 0 : megabytes / (encodeNanos / NANOS),
+                    decodeNanos == 0 ? 0 : megabytes / (decodeNanos / NANOS), decoder,
+                    symbolErrors, corrected, overCapacity, uncorrectable, rate(uncorrectable),
+                    miscorrected, rate(miscorrected), faults);
+        }
+
+        String latencies() {
+            return String.format(Locale.ROOT,
+                    "decode latency us [%s]: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f",
+                    decoder,
+                    decodeLatency.percentile(50) / 1e3, decodeLatency.percentile(90) / 1e3,
+                    decodeLatency.percentile(99) / 1e3, decodeLatency.percentile(99.9) / 1e3,
+                    decodeLatency.getMax() / 1e3);
+        }
+
+        private double rate(long count) {
+            return blocks == 0 ? 0 : count / (double) blocks;
+        }
+    }
+}
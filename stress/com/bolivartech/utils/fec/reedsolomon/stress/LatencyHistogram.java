@@ -0,0 +1,114 @@
+package com.bolivartech.utils.fec.reedsolomon.stress;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's latency histogram Class.<br/><br/>
+ * <p>
+ * Histograma log-lineal de latencias en nanosegundos: cada potencia de dos
+ * se divide en 16 sub-intervalos, con un error relativo menor al 7% y
+ * memoria constante para corridas de varias horas.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+    private long total = 0;
+    private long max = 0;
+
+    /**
+     * Registra una latencia
+     *
+     * @param Nanos Latencia en nanosegundos
+     */
+    public void record(long Nanos) {
+        if (Nanos < 0) {
+            Nanos = 0;
+        }
+        counts[index(Nanos)]++;
+        total++;
+        if (Nanos > max) {
+            max = Nanos;
+        }
+    }
+
+    /**
+     * Retorna el numero de latencias registradas
+     *
+     * @return Numero de muestras
+     */
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * Retorna la latencia maxima registrada
+     *
+     * @return Latencia maxima en nanosegundos
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Retorna el percentil solicitado (limite superior del intervalo)
+     *
+     * @param Percentile Percentil entre 0 y 100
+     * @return Latencia en nanosegundos
+     */
+    public long percentile(double Percentile) {
+        long target, seen;
+        int i;
+
+        if (total == 0) {
+            return 0;
+        }
+        target = (long) Math.ceil(total * Percentile / 100.0);
+        if (target < 1) {
+            target = 1;
+        }
+        seen = 0;
+        for (i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /*
+     * Indice del intervalo: los primeros 16 valores son exactos, luego 16
+     * intervalos por cada potencia de dos
+     */
+    private static int index(long value) {
+        int exponent;
+
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (exponent + 1) * SUB_BUCKETS + (int) ((value >>> exponent) - SUB_BUCKETS);
+    }
+
+    private static long upperBound(int index) {
+        int exponent;
+
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        exponent = index / SUB_BUCKETS - 1;
+        return ((long) (index % SUB_BUCKETS + SUB_BUCKETS + 1) << exponent) - 1;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bolivartech.utils.fec.reedsolomon.stress;
+
+import com.bolivartech.utils.fec.reedsolomon.GenericGF;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's stress tools options Class.<br/><br/>
+ * <p>
+ * Parses the {@code key=value} arguments of the stress tools over their
+ * defaults and resolves the standard Galois fields by name.<br/><br/>
+ * <p>
+ * Esta clase implementa el manejo de opciones comun a las herramientas de
+ * carga.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+final class StressOptions {
+
+    private StressOptions() {
+    }
+
+    /**
+     * Aplica los argumentos de la forma clave=valor sobre las opciones por
+     * defecto; termina el proceso si alguna clave no es conocida
+     *
+     * @param args     Argumentos de la linea de comandos
+     * @param Defaults Opciones por defecto
+     * @return Opciones resultantes
+     */
+    static Map<String, String> parse(String[] args, Map<String, String> Defaults) {
+        Map<String, String> Options;
+        int i, separator;
+
+        Options = new HashMap<String, String>(Defaults);
+        for (i = 0; i < args.length; i++) {
+            separator = args[i].indexOf('=');
+            if (separator <= 0 || !Options.containsKey(args[i].substring(0, separator))) {
+                System.err.println("Unknown option: " + args[i]);
+                System.err.println("Options (with defaults): " + Defaults);
+                System.exit(2);
+            }
+            Options.put(args[i].substring(0, separator), args[i].substring(separator + 1));
+        }
+        return Options;
+    }
+
+    /**
+     * Busca el campo de Galois por el nombre de la constante en GenericGF
+     *
+     * @param name Nombre de la constante
+     * @return Campo de Galois
+     */
+    static GenericGF resolveField(String name) {
+        try {
+            return (GenericGF) GenericGF.class.getField(name).get(null);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.bolivartech.utils.fec.reedsolomon.stress;
+
+import com.bolivartech.utils.fec.reedsolomon.GenericGF;
+import com.bolivartech.utils.fec.reedsolomon.ReedSolomonDecoder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * This Class is the Valhala Networks's Galois field table layout benchmark
+ * Class.<br/><br/>
+ * <p>
+ * Simulates a host decoding hundreds of concurrent streams: every stream
+ * owns its {@link GenericGF} instance and {@link ReedSolomonDecoder} and
+ * the streams run round robin, so their tables compete for the processor
+ * caches. Every stream decodes with
+ * {@link ReedSolomonDecoder#decodeBatch} a block corrupted beyond its
+ * parity, so each decode runs the syndromes, the Euclidean algorithm and
+ * the Chien search and leaves the block unchanged for the next round. Each
+ * pass measures the compact and the wide tables in a random order, after a
+ * warm up of both, and the summary reports the median throughput of every
+ * layout in blocks per second together with the memory held
+ * by the tables. Options are given as
+ * {@code key=value} arguments, run it with
+ * {@code ant benchmark-tables -Dbenchmark.args="streams=1000"}.<br/><br/>
+ * <p>
+ * Esta clase implementa la comparacion de rendimiento entre las
+ * representaciones de las tablas de los campos de Galois.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public final class TableLayoutBenchmark {
+
+    private static final double NANOS = 1e9;
+    private static final double MEGABYTE = 1024.0 * 1024.0;
+
+    private final Map<String, String> options;
+    private int sink = 0;
+
+    /**
+     * Constructor con las opciones del benchmark
+     *
+     * @param Options Opciones del benchmark
+     */
+    public TableLayoutBenchmark(Map<String, String> Options) {
+        this.options = Options;
+    }
+
+    /**
+     * Punto de entrada del benchmark
+     *
+     * @param args Opciones de la forma clave=valor
+     */
+    public static void main(String[] args) {
+        new TableLayoutBenchmark(StressOptions.parse(args, defaults())).run();
+    }
+
+    /*
+     * Opciones por defecto
+     */
+    private static Map<String, String> defaults() {
+        Map<String, String> Options = new HashMap<String, String>();
+        Options.put("field", "QR_CODE_FIELD_256,AZTEC_DATA_12,FIELD_65536");
+        Options.put("streams", "500");
+        Options.put("codeword", "255");
+        Options.put("parity", "16");
+        Options.put("duration", "2");
+        Options.put("passes", "6");
+        Options.put("seed", "1");
+        return Options;
+    }
+
+    /**
+     * Ejecuta el benchmark para cada campo configurado, midiendo en cada
+     * pasada las dos representaciones de las tablas en orden aleatorio
+     */
+    public void run() {
+        String[] fields;
+        GenericGF field;
+        Random rnd;
+        double[] compact;
+        double[] wide;
+        double warmUp, duration;
+        boolean compactFirst;
+        int passes, i, j;
+
+        fields = options.get("field").split(",");
+        passes = Integer.parseInt(options.get("passes"));
+        duration = Double.parseDouble(options.get("duration"));
+        warmUp = duration / 2;
+        rnd = new Random(Long.parseLong(options.get("seed")));
+        System.out.println("Table layout benchmark " + options);
+        for (i = 0; i < fields.length; i++) {
+            try {
+                field = StressOptions.resolveField(fields[i].trim());
+                // Both layouts run before any measurement, so neither one is compiled alone
+                measure(fields[i].trim(), field, true, warmUp, rnd, false);
+                measure(fields[i].trim(), field, false, warmUp, rnd, false);
+                compact = new double[passes];
+                wide = new double[passes];
+                for (j = 0; j < passes; j++) {
+                    compactFirst = rnd.nextBoolean();
+                    if (compactFirst) {
+                        compact[j] = measure(fields[i].trim(), field, true, duration, rnd, true);
+                        wide[j] = measure(fields[i].trim(), field, false, duration, rnd, true);
+                    } else {
+                        wide[j] = measure(fields[i].trim(), field, false, duration, rnd, true);
+                        compact[j] = measure(fields[i].trim(), field, true, duration, rnd, true);
+                    }
+                }
+                Arrays.sort(compact);
+                Arrays.sort(wide);
+                System.out.println(String.format(Locale.US,
+                        "%s summary | compact median %.0f blocks/s [%.0f, %.0f] | wide median %.0f blocks/s [%.0f, %.0f] | compact/wide %.2f",
+                        fields[i].trim(), compact[passes / 2], compact[0], compact[passes - 1],
+                        wide[passes / 2], wide[0], wide[passes - 1], compact[passes / 2] / wide[passes / 2]));
+            } catch (IllegalArgumentException e) {
+                System.out.println(fields[i].trim() + " skipped: " + e.getMessage());
+            }
+        }
+        System.out.println("checksum " + sink);
+    }
+
+    /*
+     * Decodifica los bloques de todos los flujos por turnos durante el tiempo
+     * indicado con una representacion de tablas y retorna bloques por
+     * segundo
+     */
+    private double measure(String fieldName, GenericGF reference, boolean compact, double seconds,
+                           Random rnd, boolean print) {
+        GenericGF[] fields;
+        ReedSolomonDecoder[] decoders;
+        byte[][] blocks;
+        double rate;
+        long tableBytes, rounds, deadline, start, elapsed;
+        int streams, length, parity, symbols, checksum, s, i;
+
+        streams = Integer.parseInt(options.get("streams"));
+        length = Math.min(Integer.parseInt(options.get("codeword")), reference.getSize() - 1);
+        parity = Integer.parseInt(options.get("parity"));
+        if (streams <= 0 || parity <= 1 || parity >= length) {
+            throw new IllegalArgumentException("Bad benchmark dimensions");
+        }
+        // Byte symbols, below the field size for fields smaller than GF(256)
+        symbols = Math.min(256, reference.getSize());
+        fields = new GenericGF[streams];
+        decoders = new ReedSolomonDecoder[streams];
+        blocks = new byte[streams][length];
+        tableBytes = 0;
+        for (s = 0; s < streams; s++) {
+            fields[s] = new GenericGF(reference.getPrimitive(), reference.getSize(), compact);
+            decoders[s] = new ReedSolomonDecoder(fields[s]);
+            // Random symbols: far more errors than the parity corrects
+            for (i = 0; i < length; i++) {
+                blocks[s][i] = (byte) rnd.nextInt(symbols);
+            }
+            // Initializes the tables before the measurement
+            sink ^= decoders[s].decodeBatch(blocks[s], 0, length, 1, length, parity)[0];
+            tableBytes += fields[s].getTableBytes();
+        }
+        checksum = 0;
+        rounds = 0;
+        start = System.nanoTime();
+        deadline = start + (long) (seconds * NANOS);
+        do {
+            for (s = 0; s < streams; s++) {
+                checksum += decoders[s].decodeBatch(blocks[s], 0, length, 1, length, parity)[0];
+            }
+            rounds++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < deadline - start);
+        sink ^= checksum;
+        rate = rounds * streams * NANOS / elapsed;
+        if (print) {
+            System.out.println(String.format(Locale.US,
+                    "%s %-7s streams=%d n=%d parity=%d | %.0f blocks/s | tables %.2f MB (%d bytes/field)",
+                    fieldName, compact ? "compact" : "wide", streams, length, parity, rate,
+                    tableBytes / MEGABYTE, tableBytes / streams));
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,115 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import com.valhala.utils.exception.UtilsException;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * Pruebas del codificador por matriz de bits contra
+ * {@link ReedSolomonEncoder} alrededor de los limites de las 64 vias de un
+ * registro y de un bloque de registros.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public class BitMatrixCodecTest {
+
+    private static final int DATA_BYTES = 223;
+    private static final int PARITY_BYTES = 32;
+    private static final int[] BATCH_SIZES = {1, 63, 64, 65, 4095, 4096, 4097};
+
+    @Test
+    public void encodeMatchesReedSolomonEncoder() {
+        BitMatrixCodec codec = new BitMatrixCodec(GenericGF.QR_CODE_FIELD_256, DATA_BYTES, PARITY_BYTES);
+        ReedSolomonEncoder encoder = new ReedSolomonEncoder(GenericGF.QR_CODE_FIELD_256);
+        Random random = new Random(26);
+        byte[][] inputs, outputs;
+        int i;
+
+        for (int count : BATCH_SIZES) {
+            inputs = randomBlocks(random, count, DATA_BYTES);
+            outputs = codec.encode(inputs);
+            for (i = 0; i < count; i++) {
+                assertArrayEquals("batch " + count + " block " + i,
+                        encoder.encode(inputs[i], PARITY_BYTES), outputs[i]);
+            }
+        }
+    }
+
+    @Test
+    public void decodeRecoversErasures() throws UtilsException {
+        BitMatrixCodec codec = new BitMatrixCodec(GenericGF.QR_CODE_FIELD_256, DATA_BYTES, PARITY_BYTES);
+        Random random = new Random(27);
+        int[] erasures = {0, 5, 100, 222, 223, 254};
+        byte[][] blocks, damaged, decoded;
+        int i;
+
+        for (int count : BATCH_SIZES) {
+            blocks = codec.encode(randomBlocks(random, count, DATA_BYTES));
+            damaged = new byte[count][];
+            for (i = 0; i < count; i++) {
+                damaged[i] = blocks[i].clone();
+                for (int erasure : erasures) {
+                    damaged[i][erasure] = (byte) random.nextInt();
+                }
+            }
+            decoded = codec.decode(damaged, erasures);
+            for (i = 0; i < count; i++) {
+                assertArrayEquals("batch " + count + " block " + i, blocks[i], decoded[i]);
+            }
+        }
+    }
+
+    @Test
+    public void decodeReusesSchedulePerPattern() throws UtilsException {
+        BitMatrixCodec codec = new BitMatrixCodec(GenericGF.QR_CODE_FIELD_256, DATA_BYTES, PARITY_BYTES);
+        Random random = new Random(28);
+        int[][] patterns = {{1, 2, 3}, {200, 240}, {1, 2, 3}, {3, 2, 1}, {200, 240}};
+        byte[] block, damaged;
+
+        for (int[] pattern : patterns) {
+            block = codec.encode(randomBlocks(random, 1, DATA_BYTES)[0]);
+            damaged = block.clone();
+            for (int erasure : pattern) {
+                damaged[erasure] ^= (byte) 0x5A;
+            }
+            assertArrayEquals(block, codec.decode(damaged, pattern));
+        }
+    }
+
+    @Test
+    public void decodeRejectsTooManyErasures() {
+        BitMatrixCodec codec = new BitMatrixCodec(GenericGF.QR_CODE_FIELD_256, 10, 2);
+
+        try {
+            codec.decode(new byte[12], new int[]{0, 1, 2});
+            fail("Three erasures over two parity bytes");
+        } catch (UtilsException e) {
+            // Esperado
+        }
+    }
+
+    /*
+     * Genera Count bloques aleatorios de Length bytes
+     */
+    private static byte[][] randomBlocks(Random Rnd, int Count, int Length) {
+        byte[][] blocks = new byte[Count][Length];
+
+        for (byte[] block : blocks) {
+            Rnd.nextBytes(block);
+        }
+        return blocks;
+    }
+}
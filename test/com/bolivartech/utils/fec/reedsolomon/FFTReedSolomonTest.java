@@ -0,0 +1,145 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.valhala.utils.exception.UtilsException;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * Pruebas de ida y vuelta de la codificacion Reed-Solomon con la FFT, con
+ * paridades que no son potencias de 2, ultimos grupos de datos
+ * incompletos y perdidas en datos y en paridad.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public class FFTReedSolomonTest {
+
+    private static final int SHARD_BYTES = 6;
+    /**
+     * Pares {datos, paridad}: la paridad se redondea a m, potencia de 2, y
+     * los datos se codifican en grupos de m fragmentos
+     */
+    private static final int[][] GEOMETRIES = {
+        {1, 1}, {5, 3}, {10, 3}, {13, 5}, {17, 6}, {100, 7}, {37, 100}, {1000, 33}
+    };
+
+    @Test
+    public void recoversDataLosses() throws UtilsException {
+        Random random = new Random(28);
+
+        for (int[] geometry : GEOMETRIES) {
+            roundTrip(geometry[0], geometry[1], 0, geometry[0], random);
+        }
+    }
+
+    @Test
+    public void recoversParityLosses() throws UtilsException {
+        Random random = new Random(29);
+
+        for (int[] geometry : GEOMETRIES) {
+            roundTrip(geometry[0], geometry[1], geometry[0], geometry[1], random);
+        }
+    }
+
+    @Test
+    public void recoversMixedLosses() throws UtilsException {
+        Random random = new Random(30);
+        int pass;
+
+        for (int[] geometry : GEOMETRIES) {
+            for (pass = 0; pass < 4; pass++) {
+                roundTrip(geometry[0], geometry[1], 0, geometry[0] + geometry[1], random);
+            }
+        }
+    }
+
+    @Test
+    public void rejectsTooManyLosses() {
+        FFTReedSolomonEncoder encoder = new FFTReedSolomonEncoder(GenericGF.FIELD_65536);
+        FFTReedSolomonDecoder decoder = new FFTReedSolomonDecoder(GenericGF.FIELD_65536);
+        byte[][] data = randomShards(new Random(31), 10);
+        byte[][] shards = join(data, encoder.encode(data, 3));
+        int i;
+
+        for (i = 0; i < 4; i++) {
+            shards[2 * i + 1] = null;
+        }
+        try {
+            decoder.decode(shards, 10);
+            fail("Four lost shards with three parity shards");
+        } catch (UtilsException e) {
+            // Esperado
+        }
+    }
+
+    /*
+     * Codifica DataCount fragmentos con ParityCount de paridad, pierde hasta
+     * ParityCount fragmentos elegidos al azar en [First, First + Range) y
+     * verifica que todos sean recuperados
+     */
+    private static void roundTrip(int DataCount, int ParityCount, int First, int Range, Random Rnd)
+            throws UtilsException {
+        FFTReedSolomonEncoder encoder = new FFTReedSolomonEncoder(GenericGF.FIELD_65536);
+        FFTReedSolomonDecoder decoder = new FFTReedSolomonDecoder(GenericGF.FIELD_65536);
+        List<Integer> positions = new ArrayList<Integer>();
+        byte[][] data, parity, shards, damaged, decoded;
+        int losses, i;
+
+        data = randomShards(Rnd, DataCount);
+        parity = encoder.encode(data, ParityCount);
+        assertEquals(ParityCount, parity.length);
+        shards = join(data, parity);
+        for (i = First; i < First + Range; i++) {
+            positions.add(i);
+        }
+        Collections.shuffle(positions, Rnd);
+        losses = Math.min(ParityCount, Range);
+        damaged = shards.clone();
+        for (i = 0; i < losses; i++) {
+            damaged[positions.get(i)] = null;
+        }
+        decoded = decoder.decode(damaged, DataCount);
+        for (i = 0; i < shards.length; i++) {
+            assertArrayEquals("k=" + DataCount + " parity=" + ParityCount + " shard " + i, shards[i], decoded[i]);
+        }
+    }
+
+    /*
+     * Fragmentos de datos aleatorios
+     */
+    private static byte[][] randomShards(Random Rnd, int Count) {
+        byte[][] shards = new byte[Count][SHARD_BYTES];
+
+        for (byte[] shard : shards) {
+            Rnd.nextBytes(shard);
+        }
+        return shards;
+    }
+
+    /*
+     * Fragmentos de datos seguidos de los de paridad
+     */
+    private static byte[][] join(byte[][] Data, byte[][] Parity) {
+        byte[][] shards = new byte[Data.length + Parity.length][];
+
+        System.arraycopy(Data, 0, shards, 0, Data.length);
+        System.arraycopy(Parity, 0, shards, Data.length, Parity.length);
+        return shards;
+    }
+}
@@ -0,0 +1,140 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * Pruebas del canal de datagramas protegido sobre la interfaz de loopback,
+ * con perdidas simuladas en el emisor.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public class FecDatagramChannelTest {
+
+    private static final int WINDOW = 16;
+    private static final int MAX_PAYLOAD = 256;
+    private static final int DATAGRAMS = 500;
+    private static final long TIMEOUT_MS = 5000;
+
+    private DatagramChannel sender;
+    private DatagramChannel receiver;
+    private SocketAddress target;
+
+    @Before
+    public void open() throws IOException {
+        receiver = DatagramChannel.open();
+        receiver.bind(new InetSocketAddress("127.0.0.1", 0));
+        receiver.setOption(StandardSocketOptions.SO_RCVBUF, 1 << 20);
+        receiver.configureBlocking(false);
+        target = receiver.getLocalAddress();
+        sender = DatagramChannel.open();
+    }
+
+    @After
+    public void close() throws IOException {
+        sender.close();
+        receiver.close();
+    }
+
+    @Test
+    public void recoversSimulatedLoss() throws IOException, InterruptedException {
+        SlidingWindowEncoder encoder = new SlidingWindowEncoder(GenericGF.QR_CODE_FIELD_256,
+                WINDOW, 4, 2, MAX_PAYLOAD);
+        DirectBufferPool pool = new DirectBufferPool(encoder.getPacketSize(), 16);
+        FecDatagramChannel channel = new FecDatagramChannel(receiver, null,
+                new SlidingWindowDecoder(GenericGF.QR_CODE_FIELD_256, WINDOW), pool);
+        Random random = new Random(29);
+        Set<Integer> delivered = new HashSet<Integer>();
+        List<ByteBuffer> packets;
+        ByteBuffer payload;
+        int lost, i, j;
+
+        lost = 0;
+        for (i = 0; i < DATAGRAMS; i++) {
+            payload = ByteBuffer.allocate(4 + random.nextInt(MAX_PAYLOAD - 4));
+            payload.putInt(0, i);
+            packets = encoder.encode(payload, pool);
+            for (j = 0; j < packets.size(); j++) {
+                // One source datagram lost out of every 16
+                if (j == 0 && i % 16 == 5) {
+                    lost++;
+                } else {
+                    sender.send(packets.get(j), target);
+                }
+                pool.release(packets.get(j));
+            }
+            // Keep the socket buffer from overflowing, which would add real losses
+            if (i % 50 == 49) {
+                drain(channel, delivered, DATAGRAMS, 50);
+            }
+        }
+        drain(channel, delivered, DATAGRAMS, TIMEOUT_MS);
+        assertTrue(lost > 0);
+        assertEquals(DATAGRAMS, delivered.size());
+        assertEquals(0, channel.getTruncated());
+    }
+
+    @Test
+    public void discardsTruncatedDatagrams() throws IOException, InterruptedException {
+        SlidingWindowEncoder encoder = new SlidingWindowEncoder(GenericGF.QR_CODE_FIELD_256,
+                WINDOW, 4, 2, MAX_PAYLOAD);
+        DirectBufferPool pool = new DirectBufferPool(encoder.getPacketSize(), 16);
+        FecDatagramChannel channel = new FecDatagramChannel(receiver, null,
+                new SlidingWindowDecoder(GenericGF.QR_CODE_FIELD_256, WINDOW), pool);
+        ByteBuffer oversized = ByteBuffer.allocate(encoder.getPacketSize() + 100);
+        long deadline;
+
+        // A source datagram header followed by more bytes than the buffer holds
+        oversized.put(0, (byte) SlidingWindowEncoder.SOURCE);
+        sender.send(oversized, target);
+        deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (channel.getTruncated() == 0 && System.currentTimeMillis() < deadline) {
+            assertTrue(channel.receive().isEmpty());
+            Thread.sleep(1);
+        }
+        assertEquals(1, channel.getTruncated());
+    }
+
+    /*
+     * Recibe hasta completar Expected datagramas o agotar el tiempo
+     */
+    private static void drain(FecDatagramChannel Channel, Set<Integer> Delivered, int Expected,
+                              long TimeoutMs) throws IOException, InterruptedException {
+        List<byte[]> received;
+        long deadline;
+
+        deadline = System.currentTimeMillis() + TimeoutMs;
+        while (Delivered.size() < Expected && System.currentTimeMillis() < deadline) {
+            received = Channel.receive();
+            if (received.isEmpty()) {
+                Thread.sleep(1);
+            }
+            for (byte[] datagram : received) {
+                assertTrue(Delivered.add(ByteBuffer.wrap(datagram).getInt()));
+            }
+        }
+    }
+}
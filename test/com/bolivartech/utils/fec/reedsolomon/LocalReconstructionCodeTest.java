@@ -0,0 +1,105 @@
+package com.bolivartech.utils.fec.reedsolomon;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import com.valhala.utils.exception.UtilsException;
+
+/**
+ * Copyright 2010,2011,2012,2013 Valhala Networks C.A.<br/>
+ *
+ * <p>Homepage: <a
+ * href="http://www.cuaimacrypt.com">http://www.cuaimacrypt.com</a>.</p>
+ * <p>Valhala Networks Homepage: <a
+ * href="http://www.valhalanetworks.com">http://www.valhalanetworks.com</a>.</p>
+ * <p>
+ * Pruebas de la reparacion local y global del codigo 12 + 3 + 3.<br/><br/><br/><br/>
+ *
+ * @author Julian Bolivar
+ * @version 1.1.0
+ * @date October 19, 2026.
+ * @since 2010, 2011, 2012, 2013
+ */
+public class LocalReconstructionCodeTest {
+
+    private static final int DATA_SHARDS = 12;
+    private static final int LOCAL_GROUPS = 3;
+    private static final int GLOBAL_PARITY = 3;
+    private static final int SHARD_LENGTH = 1000;
+
+    @Test
+    public void repairReadsOnlyTheRepairSet() throws UtilsException {
+        LocalReconstructionCode code = new LocalReconstructionCode(GenericGF.QR_CODE_FIELD_256,
+                DATA_SHARDS, LOCAL_GROUPS, GLOBAL_PARITY);
+        byte[][] shards = encodedShards(code, new Random(31));
+        byte[][] reads;
+        int shard;
+
+        for (shard = 0; shard < code.getTotalShards(); shard++) {
+            reads = new byte[shards.length][];
+            for (int index : code.repairReads(shard)) {
+                reads[index] = shards[index];
+            }
+            assertArrayEquals("shard " + shard, shards[shard], code.repair(shard, reads));
+        }
+    }
+
+    @Test
+    public void repairRejectsMissingReads() {
+        LocalReconstructionCode code = new LocalReconstructionCode(GenericGF.QR_CODE_FIELD_256,
+                DATA_SHARDS, LOCAL_GROUPS, GLOBAL_PARITY);
+        byte[][] shards = encodedShards(code, new Random(32));
+
+        shards[4] = null;
+        shards[5] = null;
+        try {
+            code.repair(4, shards);
+            fail("Shard 5 is in the repair set of shard 4");
+        } catch (UtilsException e) {
+            // Esperado
+        }
+    }
+
+    @Test
+    public void decodeRecoversLocalAndGlobalLosses() throws UtilsException {
+        LocalReconstructionCode code = new LocalReconstructionCode(GenericGF.QR_CODE_FIELD_256,
+                DATA_SHARDS, LOCAL_GROUPS, GLOBAL_PARITY);
+        byte[][] shards = encodedShards(code, new Random(33));
+        int[][] patterns = {{0}, {13}, {16}, {0, 1, 2}, {0, 4, 8, 12, 13, 14}, {4, 5, 13, 17}, {0, 1, 4, 8, 16}};
+        byte[][] damaged, decoded;
+        int i;
+
+        for (int[] pattern : patterns) {
+            damaged = shards.clone();
+            for (int lost : pattern) {
+                damaged[lost] = null;
+            }
+            decoded = code.decode(damaged);
+            for (i = 0; i < shards.length; i++) {
+                assertArrayEquals("shard " + i, shards[i], decoded[i]);
+            }
+        }
+    }
+
+    /*
+     * Genera fragmentos de datos aleatorios seguidos de sus paridades
+     */
+    private static byte[][] encodedShards(LocalReconstructionCode Code, Random Rnd) {
+        byte[][] shards = new byte[Code.getTotalShards()][];
+        byte[][] data = new byte[DATA_SHARDS][SHARD_LENGTH];
+        byte[][] parity;
+        int i;
+
+        for (i = 0; i < DATA_SHARDS; i++) {
+            Rnd.nextBytes(data[i]);
+            shards[i] = data[i];
+        }
+        parity = Code.encode(data);
+        for (i = 0; i < parity.length; i++) {
+            shards[DATA_SHARDS + i] = parity[i];
+        }
+        return shards;
+    }
+}